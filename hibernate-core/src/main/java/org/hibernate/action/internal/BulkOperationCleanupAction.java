@@ -22,6 +22,7 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.NaturalIdResolutionCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
@@ -51,6 +52,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private transient Set<NaturalIdResolutionCache> naturalIdResolutionCleanups = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -79,6 +81,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
 				);
 			}
+			addNaturalIdResolutionCleanup( persister );
 
 			final MappingMetamodelImplementor mappingMetamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
 			final Set<String> roles = mappingMetamodel.getCollectionRolesByEntityParticipant( persister.getEntityName() );
@@ -125,6 +128,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
 				}
+				addNaturalIdResolutionCleanup( entityDescriptor );
 
 				final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
 				if ( roles != null ) {
@@ -210,6 +214,16 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		return false;
 	}
 
+	private void addNaturalIdResolutionCleanup(EntityPersister persister) {
+		if ( persister.hasNaturalIdentifier() ) {
+			final NaturalIdResolutionCache resolutionCache = NaturalIdResolutionCache.of( persister.getNaturalIdMapping() );
+			if ( resolutionCache != null ) {
+				resolutionCache.invalidateAll();
+				naturalIdResolutionCleanups.add( resolutionCache );
+			}
+		}
+	}
+
 	@Override
 	public Serializable[] getPropertySpaces() {
 		return affectedTableSpaces;
@@ -233,6 +247,14 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 			}
 			naturalIdCleanups.clear();
 
+			if ( naturalIdResolutionCleanups != null ) {
+				// resolutions loaded by other sessions before completion might be stale
+				for ( NaturalIdResolutionCache resolutionCache : naturalIdResolutionCleanups ) {
+					resolutionCache.invalidateAll();
+				}
+				naturalIdResolutionCleanups.clear();
+			}
+
 			for ( CollectionCleanup cleanup : collectionCleanups ) {
 				cleanup.release();
 			}
@@ -18,6 +18,8 @@ import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanParameters;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * @author Steve Ebersole
  */
@@ -25,6 +27,7 @@ public class ScanResultCollector {
 
 	private final ScanEnvironment environment;
 	private final ScanOptions options;
+	private final IndexView jandexView;
 
 	private final Set<ClassDescriptor> discoveredClasses;
 	private final Set<PackageDescriptor> discoveredPackages;
@@ -33,6 +36,7 @@ public class ScanResultCollector {
 	public ScanResultCollector(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
 		this.environment = environment;
 		this.options = options;
+		this.jandexView = parameters.getJandexView();
 
 		if ( environment.getExplicitlyListedClassNames() == null ) {
 			throw new IllegalArgumentException( "ScanEnvironment#getExplicitlyListedClassNames should not return null" );
@@ -47,6 +51,10 @@ public class ScanResultCollector {
 		this.discoveredMappingFiles = new HashSet<>();
 	}
 
+	public IndexView getJandexView() {
+		return jandexView;
+	}
+
 	public void handleClass(ClassDescriptor classDescriptor, boolean rootUrl) {
 		if ( !isListedOrDetectable( classDescriptor.getName(), rootUrl ) ) {
 			return;
@@ -0,0 +1,473 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ClassFileArchiveEntryHandler;
+import org.hibernate.boot.archive.scan.spi.NonClassFileArchiveEntryHandler;
+import org.hibernate.boot.archive.scan.spi.PackageInfoArchiveEntryHandler;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.ArchiveException;
+import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Reads and writes a versioned binary snapshot of the archives of a persistence unit,
+ * allowing the class files to be categorized once at build time instead of at startup.
+ * <p>
+ * A snapshot records, for each archive, the class files and the candidate mapping files
+ * by their name within the archive, along with a hash of their content and, for class
+ * files, the {@linkplain ClassDescriptor.Categorization categorization} of the class.
+ * Other resources are neither recorded nor read. When reading it, the archives are still
+ * visited to validate the snapshot, but the class files are only hashed rather than
+ * indexed. The {@link ScanOptions} and the explicitly listed classes and mapping files
+ * are applied as by a scan.
+ * <p>
+ * The snapshot is considered stale, and ignored, when it was written by a different
+ * version of Hibernate or with different {@link ScanOptions}, when the number of
+ * archives differs, or when a class file or mapping file was added, removed or changed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ */
+public final class ScanResultSnapshot {
+	private static final Logger log = Logger.getLogger( ScanResultSnapshot.class );
+
+	private static final int MAGIC = 0x48534E50;
+	private static final int FORMAT_VERSION = 3;
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private static final byte CLASS_ENTRY = 0;
+	private static final byte PACKAGE_ENTRY = 1;
+	private static final byte FILE_ENTRY = 2;
+
+	private ScanResultSnapshot() {
+	}
+
+	/**
+	 * Write the snapshot of the given archives.
+	 *
+	 * @param rootArchive The root archive, as it will be packaged
+	 * @param nonRootArchives The non-root archives, in the order in which they are listed
+	 * @param options The scan options in effect at runtime
+	 * @param explicitlyListedMappingFiles The mapping files listed by the persistence unit
+	 * @param snapshotResourceName The name of the snapshot resource, which is not part of the snapshot
+	 * @param outputStream The stream to write the snapshot to
+	 */
+	public static void write(
+			ArchiveDescriptor rootArchive,
+			List<ArchiveDescriptor> nonRootArchives,
+			ScanOptions options,
+			Collection<String> explicitlyListedMappingFiles,
+			String snapshotResourceName,
+			OutputStream outputStream) throws IOException {
+		final DataOutputStream out = new DataOutputStream( outputStream );
+		out.writeInt( MAGIC );
+		out.writeInt( FORMAT_VERSION );
+		out.writeUTF( Version.getVersionString() );
+		writeOptions( options, out );
+		out.writeUTF( snapshotResourceName );
+
+		// same order as the scanner visits them
+		out.writeInt( nonRootArchives.size() + 1 );
+		for ( ArchiveDescriptor nonRootArchive : nonRootArchives ) {
+			writeArchive( nonRootArchive, false, options, explicitlyListedMappingFiles, snapshotResourceName, out );
+		}
+		writeArchive( rootArchive, true, options, explicitlyListedMappingFiles, snapshotResourceName, out );
+		out.flush();
+	}
+
+	private static void writeOptions(ScanOptions options, DataOutputStream out) throws IOException {
+		out.writeBoolean( options.canDetectUnlistedClassesInRoot() );
+		out.writeBoolean( options.canDetectUnlistedClassesInNonRoot() );
+		out.writeBoolean( options.canDetectHibernateMappingFiles() );
+	}
+
+	private static void writeArchive(
+			ArchiveDescriptor archive,
+			boolean rootUrl,
+			ScanOptions options,
+			Collection<String> explicitlyListedMappingFiles,
+			String snapshotResourceName,
+			DataOutputStream out) throws IOException {
+		final RecordingContext context = new RecordingContext(
+				rootUrl,
+				options,
+				explicitlyListedMappingFiles,
+				snapshotResourceName
+		);
+		archive.visitArchive( context );
+
+		out.writeBoolean( rootUrl );
+		out.writeInt( context.entries.size() );
+		for ( SnapshotEntry entry : context.entries ) {
+			out.writeUTF( entry.name );
+			out.writeByte( entry.kind );
+			if ( entry.kind == CLASS_ENTRY ) {
+				out.writeUTF( entry.className );
+				out.writeByte( entry.categorization.ordinal() );
+			}
+			out.write( entry.hash );
+		}
+	}
+
+	/**
+	 * Read a snapshot previously written by {@link #write}, validating it against
+	 * the archives of the given environment.
+	 *
+	 * @return The scan result, or {@code null} if the snapshot is stale and the scan
+	 * has to be performed
+	 */
+	public static ScanResult read(
+			ScanEnvironment environment,
+			ScanOptions options,
+			ArchiveDescriptorFactory archiveDescriptorFactory,
+			InputStream inputStream) throws IOException {
+		final DataInputStream in = new DataInputStream( inputStream );
+		if ( in.readInt() != MAGIC ) {
+			throw new HibernateException( "Not a scan result snapshot" );
+		}
+		final int formatVersion = in.readInt();
+		if ( formatVersion != FORMAT_VERSION ) {
+			log.debugf( "Ignoring scan result snapshot with format version %s", formatVersion );
+			return null;
+		}
+		final String version = in.readUTF();
+		if ( !version.equals( Version.getVersionString() ) ) {
+			log.debugf( "Ignoring scan result snapshot written by Hibernate version %s", version );
+			return null;
+		}
+		if ( in.readBoolean() != options.canDetectUnlistedClassesInRoot()
+				|| in.readBoolean() != options.canDetectUnlistedClassesInNonRoot()
+				|| in.readBoolean() != options.canDetectHibernateMappingFiles() ) {
+			log.debug( "Ignoring scan result snapshot written with different scan options" );
+			return null;
+		}
+		final String snapshotResourceName = in.readUTF();
+
+		final List<URL> urls = new ArrayList<>();
+		if ( environment.getNonRootUrls() != null ) {
+			urls.addAll( environment.getNonRootUrls() );
+		}
+		if ( environment.getRootUrl() != null ) {
+			urls.add( environment.getRootUrl() );
+		}
+		final int archiveCount = in.readInt();
+		if ( archiveCount != urls.size() ) {
+			log.debugf( "Ignoring scan result snapshot of %s archives, %s to scan", archiveCount, urls.size() );
+			return null;
+		}
+
+		final int digestLength = newDigest().getDigestLength();
+		final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+		final List<Map<String, SnapshotEntry>> archives = new ArrayList<>( archiveCount );
+		for ( int i = 0; i < archiveCount; i++ ) {
+			final boolean rootUrl = in.readBoolean();
+			if ( rootUrl != ( i == archiveCount - 1 && environment.getRootUrl() != null ) ) {
+				log.debug( "Ignoring scan result snapshot taken against a different root archive" );
+				return null;
+			}
+			final int entryCount = in.readInt();
+			final Map<String, SnapshotEntry> entries = new HashMap<>( entryCount );
+			for ( int j = 0; j < entryCount; j++ ) {
+				final String name = in.readUTF();
+				final byte kind = in.readByte();
+				final String className;
+				final ClassDescriptor.Categorization categorization;
+				if ( kind == CLASS_ENTRY ) {
+					className = in.readUTF();
+					categorization = categorizations[ in.readByte() ];
+				}
+				else {
+					className = null;
+					categorization = null;
+				}
+				final byte[] hash = new byte[digestLength];
+				in.readFully( hash );
+				entries.put( name, new SnapshotEntry( name, kind, className, categorization, hash ) );
+			}
+			archives.add( entries );
+		}
+
+		final ScanResultCollector collector = new ScanResultCollector(
+				environment,
+				options,
+				StandardScanParameters.INSTANCE
+		);
+		for ( int i = 0; i < archiveCount; i++ ) {
+			final boolean rootUrl = i == archiveCount - 1 && environment.getRootUrl() != null;
+			URL url = urls.get( i );
+			if ( !rootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
+				url = ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl(
+						url,
+						environment.getRootUrl()
+				);
+			}
+
+			final ValidatingContext context = new ValidatingContext(
+					rootUrl,
+					options,
+					environment.getExplicitlyListedMappingFiles(),
+					snapshotResourceName,
+					archives.get( i ),
+					collector
+			);
+			archiveDescriptorFactory.buildArchiveDescriptor( url ).visitArchive( context );
+			if ( context.staleEntryName != null ) {
+				log.debugf( "Ignoring stale scan result snapshot, entry [%s] of [%s] changed", context.staleEntryName, url );
+				return null;
+			}
+			if ( context.validatedEntryCount != archives.get( i ).size() ) {
+				log.debugf( "Ignoring stale scan result snapshot, entries of [%s] were removed", url );
+				return null;
+			}
+		}
+
+		return collector.toScanResult();
+	}
+
+	private static boolean isSkipped(String name, String snapshotResourceName) {
+		// the scanner skips module-info too
+		return name.endsWith( "module-info.class" ) || name.equals( snapshotResourceName );
+	}
+
+	/**
+	 * Whether the scanner might accept the given entry as a mapping file, whatever the
+	 * archive it belongs to
+	 */
+	private static boolean isMappingFileCandidate(
+			String name,
+			ScanOptions options,
+			Collection<String> explicitlyListedMappingFiles) {
+		if ( name.endsWith( "hbm.xml" ) ) {
+			return options.canDetectHibernateMappingFiles();
+		}
+		return name.endsWith( "META-INF/orm.xml" )
+				|| explicitlyListedMappingFiles != null && explicitlyListedMappingFiles.contains( name );
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance( DIGEST_ALGORITHM );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to hash archive entries", e );
+		}
+	}
+
+	private static byte[] hash(ArchiveEntry entry, MessageDigest digest) {
+		try ( InputStream inputStream = entry.getStreamAccess().accessInputStream() ) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) != -1 ) {
+				digest.update( buffer, 0, read );
+			}
+			return digest.digest();
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not read archive entry : " + entry.getNameWithinArchive(), e );
+		}
+	}
+
+	private static class SnapshotEntry {
+		private final String name;
+		private final byte kind;
+		private final String className;
+		private final ClassDescriptor.Categorization categorization;
+		private final byte[] hash;
+
+		private SnapshotEntry(
+				String name,
+				byte kind,
+				String className,
+				ClassDescriptor.Categorization categorization,
+				byte[] hash) {
+			this.name = name;
+			this.kind = kind;
+			this.className = className;
+			this.categorization = categorization;
+			this.hash = hash;
+		}
+	}
+
+	/**
+	 * Records the class files and candidate mapping files of an archive, categorizing the
+	 * class files as the scanner does.
+	 */
+	private static class RecordingContext implements ArchiveContext, ArchiveEntryHandler {
+		private final boolean rootUrl;
+		private final ScanOptions options;
+		private final Collection<String> explicitlyListedMappingFiles;
+		private final String snapshotResourceName;
+		private final MessageDigest digest = newDigest();
+
+		private final List<SnapshotEntry> entries = new ArrayList<>();
+
+		private RecordingContext(
+				boolean rootUrl,
+				ScanOptions options,
+				Collection<String> explicitlyListedMappingFiles,
+				String snapshotResourceName) {
+			this.rootUrl = rootUrl;
+			this.options = options;
+			this.explicitlyListedMappingFiles = explicitlyListedMappingFiles;
+			this.snapshotResourceName = snapshotResourceName;
+		}
+
+		@Override
+		public boolean isRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
+			return this;
+		}
+
+		@Override
+		public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
+			final String name = entry.getNameWithinArchive();
+			if ( isSkipped( name, snapshotResourceName ) ) {
+				return;
+			}
+
+			if ( name.endsWith( "package-info.class" ) ) {
+				entries.add( new SnapshotEntry( name, PACKAGE_ENTRY, null, null, hash( entry, digest ) ) );
+			}
+			else if ( name.endsWith( ".class" ) ) {
+				final ClassDescriptor classDescriptor = ClassFileArchiveEntryHandler.toClassDescriptor( entry, null );
+				entries.add( new SnapshotEntry(
+						name,
+						CLASS_ENTRY,
+						classDescriptor.getName(),
+						classDescriptor.getCategorization(),
+						hash( entry, digest )
+				) );
+			}
+			else if ( isMappingFileCandidate( name, options, explicitlyListedMappingFiles ) ) {
+				entries.add( new SnapshotEntry( name, FILE_ENTRY, null, null, hash( entry, digest ) ) );
+			}
+			// other resources are never read by the scanner
+		}
+	}
+
+	/**
+	 * Validates the class files and candidate mapping files of an archive against the
+	 * snapshot, collecting the entries as the scanner does.
+	 */
+	private static class ValidatingContext implements ArchiveContext, ArchiveEntryHandler {
+		private final boolean rootUrl;
+		private final ScanOptions options;
+		private final Collection<String> explicitlyListedMappingFiles;
+		private final String snapshotResourceName;
+		private final Map<String, SnapshotEntry> snapshotEntries;
+		private final ScanResultCollector collector;
+		private final MessageDigest digest = newDigest();
+
+		private final PackageInfoArchiveEntryHandler packageEntryHandler;
+		private final NonClassFileArchiveEntryHandler fileEntryHandler;
+
+		private int validatedEntryCount;
+		private String staleEntryName;
+
+		private ValidatingContext(
+				boolean rootUrl,
+				ScanOptions options,
+				Collection<String> explicitlyListedMappingFiles,
+				String snapshotResourceName,
+				Map<String, SnapshotEntry> snapshotEntries,
+				ScanResultCollector collector) {
+			this.rootUrl = rootUrl;
+			this.options = options;
+			this.explicitlyListedMappingFiles = explicitlyListedMappingFiles;
+			this.snapshotResourceName = snapshotResourceName;
+			this.snapshotEntries = snapshotEntries;
+			this.collector = collector;
+			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( collector );
+			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( collector );
+		}
+
+		@Override
+		public boolean isRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
+			return this;
+		}
+
+		@Override
+		public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
+			final String name = entry.getNameWithinArchive();
+			if ( staleEntryName != null || isSkipped( name, snapshotResourceName ) ) {
+				return;
+			}
+
+			final SnapshotEntry snapshotEntry = snapshotEntries.get( name );
+			if ( snapshotEntry == null ) {
+				if ( name.endsWith( ".class" )
+						|| isMappingFileCandidate( name, options, explicitlyListedMappingFiles ) ) {
+					staleEntryName = name;
+				}
+				// other resources, like the manifest added by the packaging, are of no interest
+				return;
+			}
+
+			if ( !Arrays.equals( snapshotEntry.hash, hash( entry, digest ) ) ) {
+				staleEntryName = name;
+				return;
+			}
+			validatedEntryCount++;
+
+			switch ( snapshotEntry.kind ) {
+				case CLASS_ENTRY:
+					if ( snapshotEntry.categorization != ClassDescriptor.Categorization.OTHER ) {
+						collector.handleClass(
+								new ClassDescriptorImpl(
+										snapshotEntry.className,
+										snapshotEntry.categorization,
+										entry.getStreamAccess()
+								),
+								rootUrl
+						);
+					}
+					break;
+				case PACKAGE_ENTRY:
+					packageEntryHandler.handleEntry( entry, this );
+					break;
+				default:
+					fileEntryHandler.handleEntry( entry, this );
+			}
+		}
+	}
+}
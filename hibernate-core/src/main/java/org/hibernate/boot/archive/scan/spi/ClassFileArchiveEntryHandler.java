@@ -8,6 +8,7 @@ package org.hibernate.boot.archive.scan.spi;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.Predicate;
 import jakarta.persistence.Converter;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Entity;
@@ -20,9 +21,11 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassSummary;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 /**
@@ -49,7 +52,7 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	@Override
 	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
 
-		final ClassDescriptor classDescriptor = toClassDescriptor( entry );
+		final ClassDescriptor classDescriptor = toClassDescriptor( entry, resultCollector.getJandexView() );
 
 		if ( classDescriptor.getCategorization() == ClassDescriptor.Categorization.OTHER ) {
 			return;
@@ -58,41 +61,62 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		resultCollector.handleClass( classDescriptor, context.isRootUrl() );
 	}
 
-	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+	/**
+	 * Build the descriptor of a class file entry, indexing the class file unless it is
+	 * already known to the given Jandex index.
+	 *
+	 * @param entry The class file entry
+	 * @param jandexView The supplied Jandex index, if any
+	 *
+	 * @return The descriptor, {@linkplain ClassDescriptor.Categorization#OTHER categorized}
+	 * as other if the class is not of interest
+	 */
+	public static ClassDescriptor toClassDescriptor(ArchiveEntry entry, IndexView jandexView) {
+		final ClassInfo indexedClass = findIndexedClass( entry, jandexView );
+		if ( indexedClass != null ) {
+			// the class is already known to the supplied Jandex index, no need to index it again
+			return new ClassDescriptorImpl(
+					indexedClass.name().toString(),
+					categorize( indexedClass::hasAnnotation ),
+					entry.getStreamAccess()
+			);
+		}
+
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			Indexer indexer = new Indexer();
 			ClassSummary classSummary = indexer.indexWithSummary( inputStream );
 			Index index = indexer.complete();
-			return toClassDescriptor( classSummary, index, entry );
+			return new ClassDescriptorImpl(
+					classSummary.name().toString(),
+					categorize( annotation -> !index.getAnnotations( annotation ).isEmpty() ),
+					entry.getStreamAccess()
+			);
 		}
 		catch (IOException e) {
 			throw new ArchiveException( "Could not build ClassInfo", e );
 		}
 	}
 
-	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
-		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
-
-		if ( isModel( index ) ) {
-			categorization = ClassDescriptor.Categorization.MODEL;
-		}
-		else if ( isConverter( index ) ) {
-			categorization = ClassDescriptor.Categorization.CONVERTER;
+	private static ClassInfo findIndexedClass(ArchiveEntry entry, IndexView jandexView) {
+		if ( jandexView == null ) {
+			return null;
 		}
-
-		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
-	}
-
-	private boolean isConverter(Index index) {
-		return !index.getAnnotations( CONVERTER ).isEmpty();
+		final String nameWithinArchive = entry.getNameWithinArchive();
+		final String className = nameWithinArchive
+				.substring( 0, nameWithinArchive.length() - ".class".length() )
+				.replace( '/', '.' );
+		return jandexView.getClassByName( DotName.createSimple( className ) );
 	}
 
-	private boolean isModel(Index index) {
+	private static ClassDescriptor.Categorization categorize(Predicate<DotName> hasAnnotation) {
 		for ( DotName model : MODELS ) {
-			if ( !index.getAnnotations( model ).isEmpty() ) {
-				return true;
+			if ( hasAnnotation.test( model ) ) {
+				return ClassDescriptor.Categorization.MODEL;
 			}
 		}
-		return false;
+		if ( hasAnnotation.test( CONVERTER ) ) {
+			return ClassDescriptor.Categorization.CONVERTER;
+		}
+		return ClassDescriptor.Categorization.OTHER;
 	}
 }
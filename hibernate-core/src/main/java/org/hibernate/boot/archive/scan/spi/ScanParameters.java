@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * A "parameter object" passed to {@link Scanner#scan} to help support future
  * changes in terms of needing to pass additional stuff to scanning.
@@ -13,4 +15,16 @@ package org.hibernate.boot.archive.scan.spi;
  * @author Steve Ebersole
  */
 public interface ScanParameters {
+	/**
+	 * A Jandex index of (some of) the classes to be scanned, if one is available.
+	 * Classes known to the index are categorized from it, rather than by indexing
+	 * their class files again.
+	 *
+	 * @see org.hibernate.boot.MetadataBuilder#applyIndexView
+	 *
+	 * @return The Jandex index, or {@code null}
+	 */
+	default IndexView getJandexView() {
+		return null;
+	}
 }
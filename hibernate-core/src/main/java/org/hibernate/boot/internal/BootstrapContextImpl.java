@@ -70,6 +70,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 	private ScanOptions scanOptions;
 	private ScanEnvironment scanEnvironment;
 	private Object scannerSetting;
+	private String scanSnapshotResourceName;
 	private ArchiveDescriptorFactory archiveDescriptorFactory;
 
 	private IndexView jandexView;
@@ -101,6 +102,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 
 		// ScanEnvironment must be set explicitly
 		this.scannerSetting = configService.getSettings().get( AvailableSettings.SCANNER );
+		this.scanSnapshotResourceName = (String) configService.getSettings().get( AvailableSettings.SCANNER_SNAPSHOT );
 		this.archiveDescriptorFactory = strategySelector.resolveStrategy(
 				ArchiveDescriptorFactory.class,
 				configService.getSettings().get( AvailableSettings.SCANNER_ARCHIVE_INTERPRETER )
@@ -188,6 +190,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return scannerSetting;
 	}
 
+	@Override
+	public String getScanSnapshotResourceName() {
+		return scanSnapshotResourceName;
+	}
+
 	@Override
 	public ReflectionManager getReflectionManager() {
 		return hcannReflectionManager;
@@ -241,6 +248,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 		scanOptions = null;
 		scanEnvironment = null;
 		scannerSetting = null;
+		scanSnapshotResourceName = null;
 		archiveDescriptorFactory = null;
 		jandexView = null;
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
@@ -16,6 +18,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshot;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -69,18 +72,55 @@ public class ScanningCoordinator {
 				classLoaderService
 		);
 
-		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
-		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
-		final ScanResult scanResult = scanner.scan(
-				bootstrapContext.getScanEnvironment(),
-				bootstrapContext.getScanOptions(),
-				StandardScanParameters.INSTANCE
-		);
+		ScanResult scanResult = readScanSnapshot( bootstrapContext, classLoaderService );
+		if ( scanResult == null ) {
+			// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
+			// to the index as we discovered them via scanning and .  Currently
+			final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+			scanResult = scanner.scan(
+					bootstrapContext.getScanEnvironment(),
+					bootstrapContext.getScanOptions(),
+					bootstrapContext.getJandexView() == null
+							? StandardScanParameters.INSTANCE
+							: new StandardScanParameters( bootstrapContext.getJandexView() )
+			);
+		}
 
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static ScanResult readScanSnapshot(BootstrapContext bootstrapContext, ClassLoaderService classLoaderService) {
+		final String snapshotResourceName = bootstrapContext.getScanSnapshotResourceName();
+		if ( snapshotResourceName == null ) {
+			return null;
+		}
+
+		final URL snapshotUrl = classLoaderService.locateResource( snapshotResourceName );
+		if ( snapshotUrl == null ) {
+			log.debugf( "Scan result snapshot [%s] not found, performing scan", snapshotResourceName );
+			return null;
+		}
+
+		final ArchiveDescriptorFactory archiveDescriptorFactory = bootstrapContext.getArchiveDescriptorFactory();
+		try ( InputStream inputStream = snapshotUrl.openStream() ) {
+			return ScanResultSnapshot.read(
+					bootstrapContext.getScanEnvironment(),
+					bootstrapContext.getScanOptions(),
+					archiveDescriptorFactory == null
+							? StandardArchiveDescriptorFactory.INSTANCE
+							: archiveDescriptorFactory,
+					inputStream
+			);
+		}
+		catch (IOException e) {
+			throw new MappingException(
+					"Unable to read scan result snapshot : " + snapshotResourceName,
+					e,
+					new Origin( SourceType.RESOURCE, snapshotResourceName )
+			);
+		}
+	}
+
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
@@ -158,6 +158,18 @@ public interface BootstrapContext {
 	 */
 	Object getScanner();
 
+	/**
+	 * The name of the classpath resource holding a snapshot of the scan results,
+	 * if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+	 *
+	 * @return The snapshot resource name, or {@code null}
+	 */
+	default String getScanSnapshotResourceName() {
+		return null;
+	}
+
 	/**
 	 * Retrieve the Hibernate Commons Annotations {@link ReflectionManager}.
 	 *
@@ -142,6 +142,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_QUEUED_ROLES
+	 */
+	default boolean isBatchFetchQueuedRolesEnabled() {
+		return false;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
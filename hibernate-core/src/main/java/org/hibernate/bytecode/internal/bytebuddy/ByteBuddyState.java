@@ -26,6 +26,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
@@ -72,13 +73,24 @@ public final class ByteBuddyState {
 
 	private final ClassRewriter classRewriter;
 
+	/**
+	 * The proxies generated by the {@link ProxyFactory}, shared by all the instances of this class, so that the
+	 * SessionFactories of an application (e.g. one per data source) don't each generate their own proxy classes.
+	 * The proxy classes are scoped by the class loader of the proxied class and, as they don't hold any state
+	 * specific to a SessionFactory, they can be used by any of them.
+	 * <p>
+	 * Unlike the other caches, this cache is not wiped out by {@link #clearState()}: its entries are released
+	 * along with the class loader of the proxied class.
+	 */
+	private static final TypeCache<TypeCache.SimpleKey> sharedProxyCache =
+			new TypeCache.WithInlineExpunction<>( TypeCache.Sort.WEAK );
+
 	/**
 	 * It will be easier to maintain the cache and its state when it will no longer be static
 	 * in Hibernate ORM 6+.
 	 * Opted for WEAK keys to avoid leaking the classloader in case the SessionFactory isn't closed.
 	 * Avoiding Soft keys as they are prone to cause issues with unstable performance.
 	 */
-	private final TypeCache<TypeCache.SimpleKey> proxyCache;
 	private final TypeCache<TypeCache.SimpleKey> basicProxyCache;
 
 	ByteBuddyState() {
@@ -88,7 +100,6 @@ public final class ByteBuddyState {
 	ByteBuddyState(ClassFileVersion classFileVersion) {
 		this.byteBuddy = new ByteBuddy( classFileVersion ).with( TypeValidation.DISABLED );
 
-		this.proxyCache = new TypeCache( TypeCache.Sort.WEAK );
 		this.basicProxyCache = new TypeCache( TypeCache.Sort.WEAK );
 
 		if ( SystemSecurityManager.isSecurityManagerEnabled() ) {
@@ -109,7 +120,23 @@ public final class ByteBuddyState {
 	 */
 	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, proxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, sharedProxyCache, cacheKey, () -> null, makeProxyFunction );
+	}
+
+	/**
+	 * Load a proxy as generated by the {@link ProxyFactory}, unless a pre-generated proxy class is available.
+	 *
+	 * @param referenceClass The main class to proxy - might be an interface.
+	 * @param cacheKey The cache key.
+	 * @param locatePregeneratedProxyFunction A function locating the pre-generated proxy, returning {@code null}
+	 * if there is none.
+	 * @param makeProxyFunction A function building the proxy.
+	 * @return The loaded proxy class.
+	 */
+	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
+			Supplier<Class<?>> locatePregeneratedProxyFunction,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+		return load( referenceClass, sharedProxyCache, cacheKey, locatePregeneratedProxyFunction, makeProxyFunction );
 	}
 
 	/**
@@ -122,7 +149,7 @@ public final class ByteBuddyState {
 	 */
 	Class<?> loadBasicProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, basicProxyCache, cacheKey, () -> null, makeProxyFunction );
 	}
 
 	/**
@@ -180,7 +207,8 @@ public final class ByteBuddyState {
 	}
 
 	/**
-	 * Wipes out all known caches used by ByteBuddy. This implies it might trigger the need
+	 * Wipes out all known caches used by ByteBuddy, except the proxy cache shared by all the
+	 * instances of this class. This implies it might trigger the need
 	 * to re-create some helpers if used at runtime, especially as this state might be shared by
 	 * multiple SessionFactory instances, but at least ensures we cleanup anything which is no
 	 * longer needed after a SessionFactory close.
@@ -188,16 +216,20 @@ public final class ByteBuddyState {
 	 * of re-creating the small helpers should be negligible.
 	 */
 	void clearState() {
-		proxyCache.clear();
 		basicProxyCache.clear();
 	}
 
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
-			TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+			TypeCache.SimpleKey cacheKey, Supplier<Class<?>> locatePregeneratedProxyFunction,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return cache.findOrInsert(
 				referenceClass.getClassLoader(),
 				cacheKey,
 				() -> {
+					final Class<?> pregeneratedProxy = locatePregeneratedProxyFunction.get();
+					if ( pregeneratedProxy != null ) {
+						return pregeneratedProxy;
+					}
 					PrivilegedAction<Class<?>> delegateToPrivilegedAction = new PrivilegedAction<Class<?>>() {
 						@Override
 						public Class<?> run() {
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import net.bytebuddy.dynamic.DynamicType;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * Pre-generates the proxy classes of entity classes at build time, so that they are
+ * packaged along with the entity classes and no proxy class has to be generated when
+ * the SessionFactory is built.  Used by the {@code generateProxies} task of the
+ * Hibernate ORM Gradle plugin.
+ * <p>
+ * Only the proxy classes of entities without a proxy interface are pre-generated this way.
+ * The proxy classes of other entities are still generated at runtime.
+ *
+ * @see ByteBuddyProxyHelper#buildPregeneratedProxy(Class, Class[])
+ */
+public final class ProxyClassPregenerator {
+	private static final CoreMessageLogger LOG = messageLogger( ProxyClassPregenerator.class );
+
+	private final ByteBuddyProxyHelper byteBuddyProxyHelper =
+			new ByteBuddyProxyHelper( new ByteBuddyState() );
+
+	/**
+	 * Write the proxy classes of the given entity classes to the given directory, along with
+	 * the {@value ByteBuddyProxyHelper#PREGENERATED_PROXY_INDEX_RESOURCE_NAME} resource listing
+	 * the entity classes.
+	 *
+	 * @return The names of the written proxy classes
+	 */
+	public List<String> write(List<Class<?>> entityClasses, File outputDirectory) throws IOException {
+		final List<String> proxyClassNames = new ArrayList<>( entityClasses.size() );
+		final List<String> indexLines = new ArrayList<>( entityClasses.size() );
+		for ( Class<?> entityClass : entityClasses ) {
+			final DynamicType.Unloaded<?> proxy = byteBuddyProxyHelper.buildPregeneratedProxy(
+					entityClass,
+					new Class<?>[] { HibernateProxy.class }
+			);
+			if ( proxy.hasAliveLoadedTypeInitializers() ) {
+				// the proxy class would need to be initialized by Byte Buddy when loaded
+				throw new HibernateException( "Unable to pre-generate the proxy class of " + entityClass.getName() );
+			}
+			proxy.saveIn( outputDirectory );
+			LOG.debugf( "Pre-generated proxy class %s", proxy.getTypeDescription().getName() );
+			proxyClassNames.add( proxy.getTypeDescription().getName() );
+			indexLines.add( entityClass.getName() );
+		}
+
+		final Path indexFile = outputDirectory.toPath()
+				.resolve( ByteBuddyProxyHelper.PREGENERATED_PROXY_INDEX_RESOURCE_NAME );
+		Files.createDirectories( indexFile.getParent() );
+		Files.write( indexFile, indexLines, StandardCharsets.UTF_8 );
+		return proxyClassNames;
+	}
+}
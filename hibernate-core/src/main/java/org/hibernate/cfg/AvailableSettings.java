@@ -344,6 +344,45 @@ public interface AvailableSettings {
 	 */
 	String CONNECTION_PROVIDER = "hibernate.connection.provider_class";
 
+	/**
+	 * Specifies a second source of JDBC connections, typically a read replica of the
+	 * database, used by sessions which are {@linkplain org.hibernate.Session#setDefaultReadOnly
+	 * read-only by default} when they acquire a connection, either:
+	 * <ul>
+	 *     <li>an instance of {@link javax.sql.DataSource},
+	 *     <li>an instance of {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider},
+	 *     <li>a {@link Class} representing a class that implements {@code ConnectionProvider}, or
+	 *     <li>the name of a class that implements {@code ConnectionProvider}.
+	 * </ul>
+	 * <p>
+	 * A session only decides where its connection comes from when it acquires it, and so
+	 * {@link org.hibernate.Session#setDefaultReadOnly(boolean)} must be called before the
+	 * first transaction begins. A session obtaining its connection from this source should
+	 * not make any change to the database.
+	 * <p>
+	 * The {@code ConnectionProvider} is managed by the service registry, like the primary
+	 * one, but it is only configured with the settings prefixed by
+	 * {@value #READ_ONLY_CONNECTION_CONFIG_PREFIX}.
+	 * <p>
+	 * Not supported in combination with multi-tenancy.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadOnlyConnectionProvider
+	 *
+	 * @since 6.3
+	 */
+	String READ_ONLY_CONNECTION_PROVIDER = "hibernate.connection.read_only_provider";
+
+	/**
+	 * A setting prefix used to indicate settings that target the
+	 * {@linkplain #READ_ONLY_CONNECTION_PROVIDER read-only connection provider}.  These
+	 * settings are passed to it with the prefix replaced by {@code hibernate}, so that,
+	 * for example, {@code hibernate.read_only.connection.url} is passed as
+	 * {@value #URL}.  The other settings are not passed to it.
+	 *
+	 * @since 6.3
+	 */
+	String READ_ONLY_CONNECTION_CONFIG_PREFIX = "hibernate.read_only";
+
 	/**
 	 * Specifies the {@linkplain java.sql.Driver JDBC driver} class.
 	 *
@@ -823,6 +862,22 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Names a classpath resource containing a snapshot of the scanned archives, as
+	 * written at build time by the {@code generateScanSnapshot} task of the Gradle
+	 * plugin, or by
+	 * {@link org.hibernate.boot.archive.scan.internal.ScanResultSnapshot#write}.
+	 * <p>
+	 * When the resource exists, and the snapshot was written by the same version of
+	 * Hibernate with the same scan options, the archives are validated against the
+	 * content hashes recorded in the snapshot and the class files are not indexed.
+	 * Otherwise, or if any class file or mapping file changed, the {@linkplain #SCANNER
+	 * scan} happens as usual.
+	 *
+	 * @since 6.3
+	 */
+	String SCANNER_SNAPSHOT = "hibernate.archive.scan_snapshot";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy}
 	 * class to use. The following shortcut names are defined for this setting:
@@ -1032,6 +1087,24 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, a batch fetch of an entity type or collection role is immediately
+	 * followed by a batch fetch of every other entity type and collection role with
+	 * keys queued for batch fetching by the same result, so that the batches for the
+	 * uninitialized proxies and collections of a result are fetched back-to-back,
+	 * instead of one at a time interleaved with the processing done by the application.
+	 * Loading a single proxy or collection does not trigger these batch fetches.
+	 * <p>
+	 * This may reduce the latency of navigating a large object graph, at the cost of
+	 * fetching proxies and collections which might never be accessed.
+	 * <p>
+	 * By default, this is disabled.
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 * @see org.hibernate.annotations.BatchSize
+	 */
+	String BATCH_FETCH_QUEUED_ROLES = "hibernate.batch_fetch_queued_roles";
+
 	/**
 	 * When enabled, specifies that JDBC scrollable {@code ResultSet}s may be used.
 	 * This property is only necessary when there is no {@code ConnectionProvider},
@@ -1507,6 +1580,20 @@ public interface AvailableSettings {
 	 */
 	String AUTO_EVICT_COLLECTION_CACHE = "hibernate.cache.auto_evict_collection_cache";
 
+	/**
+	 * The maximum number of natural-id resolutions kept in a cache shared by all sessions,
+	 * for each entity hierarchy with an {@linkplain org.hibernate.annotations.NaturalId#mutable
+	 * immutable} natural-id which is not {@linkplain org.hibernate.annotations.NaturalIdCache
+	 * cached} in the second-level cache. This cache does not need a second-level cache provider.
+	 * <p>
+	 * By default, the value is {@code 0}, and natural-id resolutions are not shared between
+	 * sessions.
+	 *
+	 * @see org.hibernate.Session#bySimpleNaturalId(Class)
+	 * @see org.hibernate.Session#byNaturalId(Class)
+	 */
+	String NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE = "hibernate.cache.natural_id_resolution_max_size";
+
 	/**
 	 * Enable direct storage of entity references into the second level cache when
 	 * applicable. This is appropriate only for immutable entities.
@@ -2058,6 +2145,31 @@ public interface AvailableSettings {
 	 */
 	String MULTI_TENANT_CONNECTION_PROVIDER = "hibernate.multi_tenant_connection_provider";
 
+	/**
+	 * Specifies the maximum number of released connections an
+	 * {@link org.hibernate.engine.jdbc.connections.spi.AbstractSchemaBasedMultiTenantConnectionProvider}
+	 * keeps aside, switched to the schema of a tenant, for all tenants.  A value of {@code 0} disables
+	 * keeping connections aside.
+	 * <p>
+	 * Defaults to a quarter of the {@value #POOL_SIZE} when it is set, and to
+	 * {@value org.hibernate.engine.jdbc.connections.spi.AbstractSchemaBasedMultiTenantConnectionProvider#DEFAULT_MAX_IDLE_CONNECTIONS}
+	 * otherwise.
+	 *
+	 * @since 6.3
+	 */
+	String MULTI_TENANT_MAX_IDLE_CONNECTIONS = "hibernate.multi_tenant.max_idle_connections";
+
+	/**
+	 * Specifies the time, in milliseconds, after which a connection kept aside by an
+	 * {@link org.hibernate.engine.jdbc.connections.spi.AbstractSchemaBasedMultiTenantConnectionProvider}
+	 * is handed back to the underlying connection provider.
+	 * <p>
+	 * Defaults to {@value org.hibernate.engine.jdbc.connections.spi.AbstractSchemaBasedMultiTenantConnectionProvider#DEFAULT_MAX_IDLE_TIME}.
+	 *
+	 * @since 6.3
+	 */
+	String MULTI_TENANT_MAX_IDLE_TIME = "hibernate.multi_tenant.max_idle_time";
+
 	/**
 	 * Specifies a {@link org.hibernate.context.spi.CurrentTenantIdentifierResolver} to use,
 	 * either:
@@ -128,6 +128,13 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 			return false;
 		}
 
+		// Most of the time the bag was not touched at all, in which case its elements
+		// are still in the same order as in the snapshot: check that first, since it
+		// does not require grouping the elements of both
+		if ( sameElementsInOrder( bag, sn, elementType ) ) {
+			return true;
+		}
+
 		// HHH-11032 - Group objects by Type.getHashCode() to reduce the complexity of the search
 		final Map<Integer, List<Object>> hashToInstancesBag = groupByEqualityHash( bag, elementType );
 		final Map<Integer, List<Object>> hashToInstancesSn = groupByEqualityHash( sn, elementType );
@@ -169,6 +176,17 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		return true;
 	}
 
+	private static boolean sameElementsInOrder(List<?> bag, List<?> snapshot, Type elementType) {
+		final Iterator<?> itr = bag.iterator();
+		final Iterator<?> snapshotItr = snapshot.iterator();
+		while ( itr.hasNext() ) {
+			if ( !elementType.isSame( itr.next(), snapshotItr.next() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Groups items in searchedBag according to persistence "equality" as defined in Type.isSame and Type.getHashCode
 	 *
@@ -12,6 +12,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -86,4 +88,86 @@ public class BatchFetchQueueHelper {
 			SharedSessionContractImplementor session) {
 		removeBatchLoadableEntityKey( id, entityMappingType.getEntityPersister(), session );
 	}
+
+	/**
+	 * Start reading a result whose queued entity keys and collections should be recorded, if
+	 * {@value org.hibernate.cfg.AvailableSettings#BATCH_FETCH_QUEUED_ROLES} is enabled.
+	 *
+	 * @return The result which was being read before, to be passed to {@link #endQueuingResult}
+	 *
+	 * @see BatchFetchQueue#startQueuingResult()
+	 */
+	public static Object startQueuingResult(SharedSessionContractImplementor session) {
+		if ( !session.getFactory().getSessionFactoryOptions().isBatchFetchQueuedRolesEnabled() ) {
+			return null;
+		}
+		return session.getPersistenceContextInternal().getBatchFetchQueue().startQueuingResult();
+	}
+
+	/**
+	 * Stop reading the result started by {@link #startQueuingResult}.
+	 */
+	public static void endQueuingResult(Object previousResult, SharedSessionContractImplementor session) {
+		if ( session.getFactory().getSessionFactoryOptions().isBatchFetchQueuedRolesEnabled() ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().endQueuingResult( previousResult );
+		}
+	}
+
+	/**
+	 * Fetch one batch for each other entity type and collection role having keys queued in
+	 * the {@link BatchFetchQueue} by the same result as the batch which was just fetched, if
+	 * {@value org.hibernate.cfg.AvailableSettings#BATCH_FETCH_QUEUED_ROLES} is enabled.
+	 * <p>
+	 * The batches are fetched back-to-back, instead of one at a time as each proxy or collection
+	 * happens to be accessed by the application.  The batch fetches triggered while doing so do
+	 * not fetch any more queued batches.
+	 *
+	 * @param triggeringRole The entity name or collection role which was just batch fetched
+	 * @param queuingResult The result which queued the batch which was just fetched, obtained
+	 * from {@link BatchFetchQueue#getQueuingResult} before fetching it
+	 * @param session The session
+	 */
+	public static void fetchQueuedBatches(
+			String triggeringRole,
+			Object queuingResult,
+			SharedSessionContractImplementor session) {
+		if ( queuingResult == null
+				|| !session.getFactory().getSessionFactoryOptions().isBatchFetchQueuedRolesEnabled() ) {
+			return;
+		}
+
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		if ( batchFetchQueue.isFetchingQueuedBatches() ) {
+			return;
+		}
+
+		final List<EntityKey> entityKeys = batchFetchQueue.getFirstBatchLoadableEntityKeys( triggeringRole, queuingResult );
+		final List<PersistentCollection<?>> collections =
+				batchFetchQueue.getFirstBatchLoadableCollections( triggeringRole, queuingResult );
+		if ( entityKeys.isEmpty() && collections.isEmpty() ) {
+			return;
+		}
+		batchFetchQueue.setFetchingQueuedBatches( true );
+		try {
+			for ( EntityKey entityKey : entityKeys ) {
+				if ( session.getPersistenceContextInternal().getEntity( entityKey ) == null ) {
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "Fetching queued batch of entity [%s]", entityKey.getEntityName() );
+					}
+					entityKey.getPersister().load( entityKey.getIdentifier(), null, LockOptions.NONE, session );
+				}
+			}
+			for ( PersistentCollection<?> collection : collections ) {
+				if ( !collection.wasInitialized() ) {
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "Fetching queued batch of collection [%s]", collection.getRole() );
+					}
+					session.initializeCollection( collection, false );
+				}
+			}
+		}
+		finally {
+			batchFetchQueue.setFetchingQueuedBatches( false );
+		}
+	}
 }
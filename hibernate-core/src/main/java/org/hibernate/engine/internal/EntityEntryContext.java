@@ -48,6 +48,10 @@ import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 public class EntityEntryContext {
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( EntityEntryContext.class );
 
+	// shared by all the contexts, as it can't be modified
+	@SuppressWarnings("unchecked")
+	private static final Map.Entry<Object,EntityEntry>[] NO_ENTRIES = new Map.Entry[0];
+
 	private transient PersistenceContext persistenceContext;
 
 	private transient IdentityHashMap<ManagedEntity,ImmutableManagedEntityHolder> immutableManagedEntityXref;
@@ -59,7 +63,7 @@ public class EntityEntryContext {
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
 	@SuppressWarnings("unchecked")
-	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
+	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = NO_ENTRIES;
 	private transient boolean dirty;
 
 	/**
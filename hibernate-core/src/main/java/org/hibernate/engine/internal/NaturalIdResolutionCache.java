@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.metamodel.mapping.internal.AbstractNaturalIdMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Bounded cache of natural-id to identifier resolutions of an entity hierarchy, shared
+ * by all sessions of a {@code SessionFactory}.
+ * <p>
+ * Only used for entity hierarchies with an immutable natural-id which is not cached in
+ * the second-level cache: the resolution of an immutable natural-id only becomes invalid
+ * when the entity is deleted, and a new entity with the same natural-id is inserted.  The
+ * resolution is invalidated in both cases, both immediately and after transaction completion.
+ * <p>
+ * As with {@code putFromLoad()} in the second-level cache, every invalidation is recorded
+ * with a {@linkplain #nextTimestamp() timestamp}, and a resolution is only put if the
+ * transaction which loaded it started after the last invalidation of its key.  Otherwise,
+ * a resolution read by a concurrent session before a deletion could be put back after the
+ * eviction which follows the completion of the deleting transaction.
+ *
+ * @see AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE
+ */
+public final class NaturalIdResolutionCache {
+	private final int maxSize;
+	private final Map<Object, Object> resolutions;
+
+	// the timestamp of the last invalidation of each key, folded into
+	// regionInvalidationTimestamp when there are more than maxSize of them
+	private final ConcurrentHashMap<Object, Long> invalidationTimestamps = new ConcurrentHashMap<>();
+	private final AtomicLong regionInvalidationTimestamp = new AtomicLong( Long.MIN_VALUE );
+
+	private NaturalIdResolutionCache(int maxSize) {
+		this.maxSize = maxSize;
+		resolutions = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	/**
+	 * Create the cache for the given entity hierarchy, if enabled.
+	 *
+	 * @return The cache, or {@code null} if no resolution is shared between sessions
+	 */
+	public static NaturalIdResolutionCache create(EntityPersister rootEntityPersister) {
+		final SessionFactoryImplementor factory = rootEntityPersister.getFactory();
+		final ConfigurationService configurationService =
+				factory.getServiceRegistry().getService( ConfigurationService.class );
+		final int maxSize = configurationService == null
+				? 0
+				: ConfigurationHelper.getInt(
+						AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE,
+						configurationService.getSettings(),
+						0
+				);
+		return maxSize > 0 ? new NaturalIdResolutionCache( maxSize ) : null;
+	}
+
+	/**
+	 * The next timestamp of the clock of invalidations and loads, which is strictly increasing
+	 * within the JVM, as resolutions are only shared by the sessions of the JVM.
+	 */
+	public static long nextTimestamp() {
+		return SimpleTimestamper.next();
+	}
+
+	/**
+	 * The resolutions of the given natural-id shared by all sessions, if any
+	 */
+	public static NaturalIdResolutionCache of(NaturalIdMapping naturalIdMapping) {
+		return naturalIdMapping instanceof AbstractNaturalIdMapping
+				? ( (AbstractNaturalIdMapping) naturalIdMapping ).getResolutionCache()
+				: null;
+	}
+
+	/**
+	 * The key of the resolution of the given natural-id, which accounts for the tenant
+	 * of the session
+	 */
+	public Object generateKey(
+			Object naturalIdValues,
+			EntityPersister rootEntityPersister,
+			SharedSessionContractImplementor session) {
+		return DefaultCacheKeysFactory.staticCreateNaturalIdKey( naturalIdValues, rootEntityPersister, session );
+	}
+
+	public Object get(Object key) {
+		return resolutions.get( key );
+	}
+
+	/**
+	 * Put the resolution loaded by a transaction which started at the given timestamp,
+	 * unless its key was invalidated since.
+	 *
+	 * @param txTimestamp A {@linkplain #nextTimestamp() timestamp} taken no later than the
+	 * beginning of the loading transaction
+	 *
+	 * @return {@code true} if the resolution was put
+	 */
+	public boolean putFromLoad(Object key, Object id, long txTimestamp) {
+		final boolean[] put = new boolean[1];
+		// computing the invalidation timestamp of the key, even when it has none,
+		// excludes the concurrent invalidation of the key
+		invalidationTimestamps.compute(
+				key,
+				(k, invalidationTimestamp) -> {
+					put[0] = ( invalidationTimestamp == null || txTimestamp > invalidationTimestamp )
+							&& doPutFromLoad( key, id, txTimestamp );
+					return invalidationTimestamp;
+				}
+		);
+		return put[0];
+	}
+
+	private boolean doPutFromLoad(Object key, Object id, long txTimestamp) {
+		if ( txTimestamp <= regionInvalidationTimestamp.get() ) {
+			return false;
+		}
+		resolutions.put( key, id );
+		if ( txTimestamp <= regionInvalidationTimestamp.get() ) {
+			// the region was invalidated concurrently, possibly before the put
+			resolutions.remove( key, id );
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Evict the resolution of the given key, and reject the resolutions of this key
+	 * loaded by transactions which started before now.
+	 */
+	public void invalidate(Object key) {
+		final long timestamp = nextTimestamp();
+		invalidationTimestamps.merge( key, timestamp, Math::max );
+		resolutions.remove( key );
+		if ( invalidationTimestamps.size() > maxSize ) {
+			foldInvalidationTimestamps();
+		}
+	}
+
+	/**
+	 * Evict all resolutions, and reject the resolutions loaded by transactions which
+	 * started before now.
+	 */
+	public void invalidateAll() {
+		regionInvalidationTimestamp.accumulateAndGet( nextTimestamp(), Math::max );
+		resolutions.clear();
+	}
+
+	private void foldInvalidationTimestamps() {
+		for ( Object key : new ArrayList<>( invalidationTimestamps.keySet() ) ) {
+			invalidationTimestamps.computeIfPresent(
+					key,
+					(k, invalidationTimestamp) -> {
+						regionInvalidationTimestamp.accumulateAndGet( invalidationTimestamp, Math::max );
+						return null;
+					}
+			);
+		}
+	}
+}
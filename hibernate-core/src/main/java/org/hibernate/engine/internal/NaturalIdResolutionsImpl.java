@@ -87,8 +87,20 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		// 'put' stats incrementing.
 		final boolean justAddedLocally = cacheResolution( id, naturalId, entityDescriptor );
 
-		if ( justAddedLocally && naturalIdMapping.getCacheAccess() != null ) {
-			manageSharedResolution( persister, id, naturalId, (Object) null, CachedNaturalIdValueSource.LOAD );
+		if ( justAddedLocally ) {
+			if ( naturalIdMapping.getCacheAccess() != null ) {
+				manageSharedResolution( persister, id, naturalId, (Object) null, CachedNaturalIdValueSource.LOAD );
+			}
+			else {
+				final NaturalIdResolutionCache resolutionCache = NaturalIdResolutionCache.of( naturalIdMapping );
+				if ( resolutionCache != null ) {
+					resolutionCache.putFromLoad(
+							resolutionCache.generateKey( naturalId, persister, session() ),
+							id,
+							persistenceContext.getNaturalIdResolutionLoadTimestamp()
+					);
+				}
+			}
 		}
 	}
 
@@ -245,7 +257,9 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		}
 
 		if ( naturalIdMapping.getCacheAccess() == null ) {
-			// nothing to do
+			if ( source != CachedNaturalIdValueSource.LOAD ) {
+				evictSharedResolution( naturalId, entityDescriptor );
+			}
 			return;
 		}
 
@@ -391,7 +405,7 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		final NaturalIdDataAccess cacheAccess = naturalIdMapping.getCacheAccess();
 
 		if ( cacheAccess == null ) {
-			// nothing to do
+			evictSharedResolution( naturalId, entityDescriptor );
 			return;
 		}
 
@@ -411,6 +425,26 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 //			}
 	}
 
+	/**
+	 * Invalidate the resolution of the given natural-id in the {@link NaturalIdResolutionCache}
+	 * shared by all sessions, if any, both now and after completion of the transaction, so
+	 * that a resolution loaded by a concurrent session in the meantime is not put either
+	 */
+	private void evictSharedResolution(Object naturalId, EntityMappingType entityDescriptor) {
+		final NaturalIdResolutionCache resolutionCache = NaturalIdResolutionCache.of( entityDescriptor.getNaturalIdMapping() );
+		if ( resolutionCache == null ) {
+			return;
+		}
+
+		final SharedSessionContractImplementor s = session();
+		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final Object key = resolutionCache.generateKey( naturalId, persister, s );
+		resolutionCache.invalidate( key );
+		s.asEventSource().getActionQueue().registerProcess(
+				(success, session) -> resolutionCache.invalidate( key )
+		);
+	}
+
 	@Override
 	public void handleSynchronization(Object pk, Object entity, EntityMappingType entityDescriptor) {
 		final NaturalIdMapping naturalIdMapping = entityDescriptor.getNaturalIdMapping();
@@ -571,7 +605,7 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 
 		// Session cache miss, see if second-level caching is enabled
 		if ( !persister.hasNaturalIdCache() ) {
-			return null;
+			return findSharedResolution( naturalId, persister, cachedNaturalId, entityNaturalIdResolutionCache );
 		}
 
 		// Try resolution from second-level cache
@@ -624,6 +658,44 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		return pk;
 	}
 
+	/**
+	 * Try resolution from the {@link NaturalIdResolutionCache} shared by all sessions, if any
+	 */
+	private Object findSharedResolution(
+			Object naturalId,
+			EntityPersister persister,
+			Resolution cachedNaturalId,
+			EntityResolutions entityNaturalIdResolutionCache) {
+		final NaturalIdResolutionCache resolutionCache = NaturalIdResolutionCache.of( persister.getNaturalIdMapping() );
+		if ( resolutionCache == null ) {
+			return null;
+		}
+
+		final Object pk = resolutionCache.get( resolutionCache.generateKey( naturalId, persister, session() ) );
+		if ( pk != null ) {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracef(
+						"Found natural key [%s] -> primary key [%s] xref in shared resolution cache for %s",
+						naturalId,
+						pk,
+						persister.getRootEntityName()
+				);
+			}
+
+			if ( entityNaturalIdResolutionCache == null ) {
+				entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
+				EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
+				if ( existingCache != null ) {
+					entityNaturalIdResolutionCache = existingCache;
+				}
+			}
+
+			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
+			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+		}
+		return pk;
+	}
+
 	@Override
 	public Collection<?> getCachedPkResolutions(EntityMappingType entityDescriptor) {
 		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
@@ -159,6 +159,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// a timestamp no later than the beginning of the current transaction, with
+	// which the natural-id resolutions it loads are shared between sessions
+	private long naturalIdResolutionLoadTimestamp;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -167,6 +171,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.naturalIdResolutionLoadTimestamp = nextNaturalIdResolutionLoadTimestamp();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -294,6 +299,28 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 	}
 
+	/**
+	 * Notify that the session joined a transaction, which cannot read a state of the
+	 * database older than this point in time.
+	 */
+	public void transactionJoined() {
+		naturalIdResolutionLoadTimestamp = nextNaturalIdResolutionLoadTimestamp();
+	}
+
+	/**
+	 * The timestamp of the {@link NaturalIdResolutionCache#putFromLoad loads} of natural-id
+	 * resolutions by the current transaction.
+	 */
+	long getNaturalIdResolutionLoadTimestamp() {
+		return naturalIdResolutionLoadTimestamp;
+	}
+
+	private long nextNaturalIdResolutionLoadTimestamp() {
+		return session.getFactory().getFastSessionServices().isNaturalIdResolutionCacheEnabled()
+				? NaturalIdResolutionCache.nextTimestamp()
+				: 0L;
+	}
+
 	@Override
 	public void afterTransactionCompletion() {
 		cleanUpInsertedKeysAfterTransaction();
@@ -15,12 +15,15 @@ import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -63,6 +66,8 @@ public class DriverManagerConnectionProviderImpl
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
+	// in TimeUnit.MILLISECONDS
+	public static final String MAX_WAIT = "hibernate.connection.pool_max_wait";
 
 	private volatile PoolState state;
 
@@ -92,6 +97,7 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long maxWait = ConfigurationHelper.getLong( MAX_WAIT, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -101,6 +107,7 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.maxWait( maxWait );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -343,13 +350,17 @@ public class DriverManagerConnectionProviderImpl
 	public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private final BlockingQueue<Connection> availableConnections = new LinkedBlockingQueue<>();
+		// guards growing the pool, which opens a connection: not a monitor,
+		// so that a virtual thread waiting for it is not pinned
+		private final ReentrantLock growthLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long maxWait;
 
 		private volatile boolean primed;
 
@@ -363,6 +374,7 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			maxWait = builder.maxWait;
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
@@ -414,24 +426,52 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
+			// the maximum wait applies to the whole call, even if released connections get rejected
+			final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( maxWait );
 			Connection conn;
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
+					growthLock.lock();
+					try {
 						if ( allConnections.size() < maxSize ) {
 							addConnections( 1 );
-							return poll();
+							continue;
 						}
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+					finally {
+						growthLock.unlock();
+					}
+					conn = awaitConnection( deadline );
+					if ( conn == null ) {
+						throw new HibernateException(
+								"The internal connection pool has reached its maximum size and no connection is currently available" );
+					}
 				}
 				conn = prepareConnection( conn );
 			} while ( conn == null );
 			return conn;
 		}
 
+		/**
+		 * Wait for a connection to be released, until the given deadline at most.
+		 *
+		 * @return The released connection, or {@code null} if none was released in time
+		 */
+		private Connection awaitConnection(long deadline) {
+			final long remaining = deadline - System.nanoTime();
+			if ( maxWait <= 0 || remaining <= 0 ) {
+				return null;
+			}
+			try {
+				return availableConnections.poll( remaining, TimeUnit.NANOSECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -522,6 +562,7 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long maxWait;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -543,6 +584,11 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			public Builder maxWait(long maxWait) {
+				this.maxWait = maxWait;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadOnlyConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Startable;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The {@link ReadOnlyConnectionProvider} service, which delegates to the configured
+ * {@link ConnectionProvider}.  The service registry manages the lifecycle of the delegate
+ * through this service, and the delegate is configured with the settings prefixed by
+ * {@value AvailableSettings#READ_ONLY_CONNECTION_CONFIG_PREFIX} only.
+ */
+public class ReadOnlyConnectionProviderImpl
+		implements ReadOnlyConnectionProvider, ServiceRegistryAwareService, Configurable, Startable, Stoppable {
+	private final ConnectionProvider connectionProvider;
+
+	public ReadOnlyConnectionProviderImpl(ConnectionProvider connectionProvider) {
+		this.connectionProvider = connectionProvider;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		if ( connectionProvider instanceof ServiceRegistryAwareService ) {
+			( (ServiceRegistryAwareService) connectionProvider ).injectServices( serviceRegistry );
+		}
+	}
+
+	@Override
+	public void configure(Map<String, Object> configurationValues) {
+		if ( connectionProvider instanceof Configurable ) {
+			( (Configurable) connectionProvider ).configure( getReadOnlySettings( configurationValues ) );
+		}
+	}
+
+	/**
+	 * The settings prefixed by {@value AvailableSettings#READ_ONLY_CONNECTION_CONFIG_PREFIX},
+	 * with this prefix replaced by {@code hibernate}, so that, for example,
+	 * {@code hibernate.read_only.connection.url} is passed as {@code hibernate.connection.url}.
+	 */
+	private static Map<String, Object> getReadOnlySettings(Map<String, Object> configurationValues) {
+		final String prefix = AvailableSettings.READ_ONLY_CONNECTION_CONFIG_PREFIX + '.';
+		final Map<String, Object> readOnlySettings = new HashMap<>();
+		for ( Map.Entry<String, Object> entry : configurationValues.entrySet() ) {
+			final String key = entry.getKey();
+			if ( key.startsWith( prefix ) ) {
+				readOnlySettings.put( "hibernate." + key.substring( prefix.length() ), entry.getValue() );
+			}
+		}
+		return readOnlySettings;
+	}
+
+	@Override
+	public void start() {
+		if ( connectionProvider instanceof Startable ) {
+			( (Startable) connectionProvider ).start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( connectionProvider instanceof Stoppable ) {
+			( (Stoppable) connectionProvider ).stop();
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connectionProvider.getConnection();
+	}
+
+	@Override
+	public void closeConnection(Connection conn) throws SQLException {
+		connectionProvider.closeConnection( conn );
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return connectionProvider.supportsAggressiveRelease();
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return unwrapType.isInstance( this ) || connectionProvider.isUnwrappableAs( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( unwrapType.isInstance( this ) ) {
+			return (T) this;
+		}
+		else if ( connectionProvider.isUnwrappableAs( unwrapType ) ) {
+			return connectionProvider.unwrap( unwrapType );
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadOnlyConnectionProvider;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A service initiator for the {@link ReadOnlyConnectionProvider} service.
+ *
+ * @see AvailableSettings#READ_ONLY_CONNECTION_PROVIDER
+ */
+public class ReadOnlyConnectionProviderInitiator implements StandardServiceInitiator<ReadOnlyConnectionProvider> {
+	/**
+	 * Singleton access
+	 */
+	public static final ReadOnlyConnectionProviderInitiator INSTANCE = new ReadOnlyConnectionProviderInitiator();
+
+	@Override
+	public Class<ReadOnlyConnectionProvider> getServiceInitiated() {
+		return ReadOnlyConnectionProvider.class;
+	}
+
+	@Override
+	public ReadOnlyConnectionProvider initiateService(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry) {
+		final Object setting = configurationValues.get( AvailableSettings.READ_ONLY_CONNECTION_PROVIDER );
+		if ( setting == null ) {
+			return null;
+		}
+		else if ( setting instanceof DataSource ) {
+			final DatasourceConnectionProviderImpl connectionProvider = new DatasourceConnectionProviderImpl();
+			connectionProvider.setDataSource( (DataSource) setting );
+			return new ReadOnlyConnectionProviderImpl( connectionProvider );
+		}
+		else {
+			return new ReadOnlyConnectionProviderImpl(
+					registry.getService( StrategySelector.class )
+							.resolveStrategy( ConnectionProvider.class, setting )
+			);
+		}
+	}
+}
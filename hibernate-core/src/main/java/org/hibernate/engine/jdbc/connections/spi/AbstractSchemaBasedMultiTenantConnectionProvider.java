@@ -0,0 +1,321 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Basic support for {@link MultiTenantConnectionProvider} implementations serving
+ * each tenant from its own schema, using a single {@link ConnectionProvider} shared
+ * by all tenants behind the scenes.
+ * <p>
+ * The schema of a connection is switched using {@link Connection#setSchema}.  To avoid
+ * a switch, and the round trip to the database it usually implies, every time a tenant
+ * obtains a connection, a bounded number of released connections are kept aside along
+ * with the schema they were switched to, instead of being handed back to the underlying
+ * {@code ConnectionProvider} right away:
+ * <ul>
+ *     <li>a connection kept aside for the schema of the tenant is reused as is,</li>
+ *     <li>otherwise, the connection kept aside the longest is switched to the schema
+ *         of the tenant,</li>
+ *     <li>and only when no connection is kept aside is one obtained from the underlying
+ *         {@code ConnectionProvider}.</li>
+ * </ul>
+ * Connections kept aside hold a connection of the underlying {@code ConnectionProvider}
+ * without going through its validation and eviction, so only a few are kept aside, and
+ * not for long:
+ * <ul>
+ *     <li>no more than {@linkplain #getMaxIdleConnections() the maximum number of
+ *         connections kept aside}, a quarter of the {@value AvailableSettings#POOL_SIZE}
+ *         by default, and never more than that, are kept aside for all tenants,</li>
+ *     <li>connections kept aside for longer than {@linkplain #getMaxIdleTime() the maximum
+ *         idle time} are handed back whenever a connection is obtained or released,</li>
+ *     <li>and a connection kept aside is handed back before obtaining a connection from
+ *         {@link #getAnyConnection()}, so that keeping connections aside never exhausts
+ *         the underlying {@code ConnectionProvider}.</li>
+ * </ul>
+ * <p>
+ * This assumes the schema of the connections is only ever changed by this provider.
+ * <p>
+ * This class is meant to be subclassed to implement application-specific
+ * requirements.
+ */
+public abstract class AbstractSchemaBasedMultiTenantConnectionProvider
+		implements MultiTenantConnectionProvider, Configurable, Stoppable {
+
+	/**
+	 * The default {@linkplain #getMaxIdleConnections() maximum number of connections kept aside},
+	 * when the {@value AvailableSettings#POOL_SIZE} is not set
+	 *
+	 * @see AvailableSettings#MULTI_TENANT_MAX_IDLE_CONNECTIONS
+	 */
+	public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 2;
+
+	/**
+	 * The default {@linkplain #getMaxIdleTime() maximum idle time}, in milliseconds
+	 *
+	 * @see AvailableSettings#MULTI_TENANT_MAX_IDLE_TIME
+	 */
+	public static final long DEFAULT_MAX_IDLE_TIME = 5_000L;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	//Access to this field requires holding the lock; oldest first
+	private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+
+	private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+	private long maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+	// a quarter of the pool size, when known
+	private int idleConnectionsLimit = Integer.MAX_VALUE;
+
+	@Override
+	public void configure(Map<String, Object> configurationValues) {
+		final int poolSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 0 );
+		if ( poolSize > 0 ) {
+			idleConnectionsLimit = poolSize / 4;
+		}
+		maxIdleConnections = ConfigurationHelper.getInt(
+				AvailableSettings.MULTI_TENANT_MAX_IDLE_CONNECTIONS,
+				configurationValues,
+				poolSize > 0 ? idleConnectionsLimit : DEFAULT_MAX_IDLE_CONNECTIONS
+		);
+		maxIdleTime = ConfigurationHelper.getInt(
+				AvailableSettings.MULTI_TENANT_MAX_IDLE_TIME,
+				configurationValues,
+				(int) DEFAULT_MAX_IDLE_TIME
+		);
+	}
+
+	/**
+	 * The {@link ConnectionProvider} connections are obtained from, for all tenants.
+	 */
+	protected abstract ConnectionProvider getConnectionProvider();
+
+	/**
+	 * The name of the schema of the given tenant.  By default, the tenant identifier.
+	 */
+	protected String getSchemaName(String tenantIdentifier) {
+		return tenantIdentifier;
+	}
+
+	/**
+	 * The maximum number of released connections kept aside, for all tenants.
+	 * A value of {@code 0} disables keeping connections aside.  Never more than
+	 * a quarter of the {@value AvailableSettings#POOL_SIZE} are kept aside.
+	 *
+	 * @see AvailableSettings#MULTI_TENANT_MAX_IDLE_CONNECTIONS
+	 */
+	protected int getMaxIdleConnections() {
+		return maxIdleConnections;
+	}
+
+	/**
+	 * The time, in milliseconds, after which a connection kept aside is handed back to
+	 * the underlying {@link ConnectionProvider}.
+	 *
+	 * @see AvailableSettings#MULTI_TENANT_MAX_IDLE_TIME
+	 */
+	protected long getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	/**
+	 * The current time, in milliseconds, against which the {@linkplain #getMaxIdleTime()
+	 * idle time} of connections kept aside is measured.
+	 */
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	@Override
+	public Connection getAnyConnection() throws SQLException {
+		// hand back a connection kept aside first, in case they are holding the last
+		// connections of the underlying provider
+		final IdleConnection idleConnection;
+		lock.lock();
+		try {
+			idleConnection = idleConnections.pollFirst();
+		}
+		finally {
+			lock.unlock();
+		}
+		if ( idleConnection != null ) {
+			closeQuietly( idleConnection.connection );
+		}
+		return getConnectionProvider().getConnection();
+	}
+
+	@Override
+	public void releaseAnyConnection(Connection connection) throws SQLException {
+		getConnectionProvider().closeConnection( connection );
+	}
+
+	@Override
+	public Connection getConnection(String tenantIdentifier) throws SQLException {
+		final String schemaName = getSchemaName( tenantIdentifier );
+
+		final List<Connection> expiredConnections = new ArrayList<>();
+		IdleConnection idleConnection = null;
+		lock.lock();
+		try {
+			pollExpiredConnections( currentTimeMillis(), expiredConnections );
+
+			// prefer the most recently released connection already using the schema
+			final Iterator<IdleConnection> iterator = idleConnections.descendingIterator();
+			while ( iterator.hasNext() ) {
+				final IdleConnection candidate = iterator.next();
+				if ( candidate.schemaName.equals( schemaName ) ) {
+					iterator.remove();
+					idleConnection = candidate;
+					break;
+				}
+			}
+			if ( idleConnection == null ) {
+				idleConnection = idleConnections.pollFirst();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		closeQuietly( expiredConnections );
+
+		final Connection connection;
+		if ( idleConnection == null ) {
+			connection = getConnectionProvider().getConnection();
+		}
+		else if ( idleConnection.schemaName.equals( schemaName ) ) {
+			return idleConnection.connection;
+		}
+		else {
+			connection = idleConnection.connection;
+		}
+
+		try {
+			connection.setSchema( schemaName );
+		}
+		catch (SQLException e) {
+			getConnectionProvider().closeConnection( connection );
+			throw e;
+		}
+		return connection;
+	}
+
+	@Override
+	public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+		final List<Connection> expiredConnections = new ArrayList<>();
+		boolean keptAside = false;
+		if ( !connection.isClosed() ) {
+			lock.lock();
+			try {
+				final long now = currentTimeMillis();
+				pollExpiredConnections( now, expiredConnections );
+				if ( idleConnections.size() < Math.min( getMaxIdleConnections(), idleConnectionsLimit ) ) {
+					idleConnections.addLast( new IdleConnection( getSchemaName( tenantIdentifier ), connection, now ) );
+					keptAside = true;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		closeQuietly( expiredConnections );
+		if ( !keptAside ) {
+			getConnectionProvider().closeConnection( connection );
+		}
+	}
+
+	// must be called holding the lock
+	private void pollExpiredConnections(long now, List<Connection> expiredConnections) {
+		final long expiry = now - getMaxIdleTime();
+		while ( !idleConnections.isEmpty() && idleConnections.peekFirst().releaseTime < expiry ) {
+			expiredConnections.add( idleConnections.pollFirst().connection );
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return getConnectionProvider().supportsAggressiveRelease();
+	}
+
+	@Override
+	public void stop() {
+		final List<IdleConnection> connections;
+		lock.lock();
+		try {
+			connections = new ArrayList<>( idleConnections );
+			idleConnections.clear();
+		}
+		finally {
+			lock.unlock();
+		}
+		for ( IdleConnection idleConnection : connections ) {
+			closeQuietly( idleConnection.connection );
+		}
+	}
+
+	private void closeQuietly(List<Connection> connections) {
+		for ( Connection connection : connections ) {
+			closeQuietly( connection );
+		}
+	}
+
+	private void closeQuietly(Connection connection) {
+		try {
+			getConnectionProvider().closeConnection( connection );
+		}
+		catch (SQLException ignore) {
+		}
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return
+			ConnectionProvider.class.isAssignableFrom( unwrapType ) ||
+			MultiTenantConnectionProvider.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( MultiTenantConnectionProvider.class.isAssignableFrom( unwrapType ) ) {
+			return (T) this;
+		}
+		else if ( ConnectionProvider.class.isAssignableFrom( unwrapType ) ) {
+			return (T) getConnectionProvider();
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	private static class IdleConnection {
+		private final String schemaName;
+		private final Connection connection;
+		private final long releaseTime;
+
+		private IdleConnection(String schemaName, Connection connection, long releaseTime) {
+			this.schemaName = schemaName;
+			this.connection = connection;
+			this.releaseTime = releaseTime;
+		}
+	}
+}
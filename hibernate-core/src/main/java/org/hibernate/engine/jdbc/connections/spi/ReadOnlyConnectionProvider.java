@@ -0,0 +1,21 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+/**
+ * The service providing the JDBC connections of the sessions which are
+ * {@linkplain org.hibernate.Session#setDefaultReadOnly read-only by default}, typically
+ * from a read replica of the database.  It is only available when the setting
+ * {@value org.hibernate.cfg.AvailableSettings#READ_ONLY_CONNECTION_PROVIDER} is specified.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#READ_ONLY_CONNECTION_PROVIDER
+ * @see org.hibernate.cfg.AvailableSettings#READ_ONLY_CONNECTION_CONFIG_PREFIX
+ *
+ * @since 6.3
+ */
+public interface ReadOnlyConnectionProvider extends ConnectionProvider {
+}
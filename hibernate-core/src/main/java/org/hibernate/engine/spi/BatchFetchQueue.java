@@ -6,8 +6,12 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -59,6 +63,30 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Whether the batches queued for other entity types and collection roles are currently
+	 * being fetched, in which case the batch fetches they trigger should not fetch any more
+	 */
+	private boolean fetchingQueuedBatches;
+
+	/**
+	 * The result currently being read, which is recorded as the result queuing the entity keys
+	 * and collections added meanwhile, or {@code null}
+	 *
+	 * @see #startQueuingResult()
+	 */
+	private Object queuingResult;
+
+	/**
+	 * The result which queued each batch loadable entity key, when it was added while a result was read
+	 */
+	private Map<EntityKey, Object> entityKeyQueuingResults;
+
+	/**
+	 * The result which queued each batch loadable collection, when it was added while a result was read
+	 */
+	private Map<CollectionEntry, Object> collectionQueuingResults;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -77,6 +105,31 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		entityKeyQueuingResults = null;
+		collectionQueuingResults = null;
+	}
+
+	/**
+	 * Start reading a result: the entity keys and collections queued until
+	 * {@link #endQueuingResult(Object)} are recorded as queued by this result.
+	 *
+	 * @return The result which was being read before, to be passed to {@link #endQueuingResult(Object)}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_QUEUED_ROLES
+	 */
+	public Object startQueuingResult() {
+		final Object previousResult = queuingResult;
+		queuingResult = new Object();
+		return previousResult;
+	}
+
+	/**
+	 * Stop reading the current result.
+	 *
+	 * @param previousResult The result returned by {@link #startQueuingResult()}
+	 */
+	public void endQueuingResult(Object previousResult) {
+		queuingResult = previousResult;
 	}
 
 
@@ -152,6 +205,13 @@ public class BatchFetchQueue {
 			);
 
 			keysForEntity.add( key );
+
+			if ( queuingResult != null ) {
+				if ( entityKeyQueuingResults == null ) {
+					entityKeyQueuingResults = new HashMap<>();
+				}
+				entityKeyQueuingResults.put( key, queuingResult );
+			}
 		}
 	}
 
@@ -167,9 +227,21 @@ public class BatchFetchQueue {
 			if ( set != null ) {
 				set.remove(key);
 			}
+			if ( entityKeyQueuingResults != null ) {
+				entityKeyQueuingResults.remove( key );
+			}
 		}
 	}
 
+	/**
+	 * The result which queued the given entity key, if it was queued while a result was read.
+	 *
+	 * @see #startQueuingResult()
+	 */
+	public Object getQueuingResult(EntityKey key) {
+		return entityKeyQueuingResults == null ? null : entityKeyQueuingResults.get( key );
+	}
+
 	/**
 	 * Intended for test usage.  Really has no use-case in Hibernate proper.
 	 */
@@ -238,6 +310,36 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
+	/**
+	 * Get the first unloaded entity key queued by the given result for each entity type, except
+	 * the given one.
+	 *
+	 * @param excludedEntityName The entity type to exclude, usually the one being batch loaded
+	 * @param queuingResult The result which queued the keys
+	 * @return A key for each other entity type having keys available for batch fetching
+	 */
+	public List<EntityKey> getFirstBatchLoadableEntityKeys(String excludedEntityName, Object queuingResult) {
+		if ( batchLoadableEntityKeys == null || entityKeyQueuingResults == null ) {
+			return Collections.emptyList();
+		}
+
+		final List<EntityKey> keys = new ArrayList<>( batchLoadableEntityKeys.size() );
+		for ( Entry<String, LinkedHashSet<EntityKey>> entry : batchLoadableEntityKeys.entrySet() ) {
+			if ( entry.getKey().equals( excludedEntityName ) ) {
+				continue;
+			}
+			for ( EntityKey key : entry.getValue() ) {
+				if ( entityKeyQueuingResults.get( key ) == queuingResult
+						&& context.getEntity( key ) == null
+						&& !isCached( key, key.getPersister() ) ) {
+					keys.add( key );
+					break;
+				}
+			}
+		}
+		return keys;
+	}
+
 	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
 		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
@@ -274,6 +376,13 @@ public class BatchFetchQueue {
 				);
 
 		map.put( ce, collection );
+
+		if ( queuingResult != null ) {
+			if ( collectionQueuingResults == null ) {
+				collectionQueuingResults = new HashMap<>();
+			}
+			collectionQueuingResults.put( ce, queuingResult );
+		}
 	}
 
 	/**
@@ -290,6 +399,18 @@ public class BatchFetchQueue {
 		if ( map != null ) {
 			map.remove( ce );
 		}
+		if ( collectionQueuingResults != null ) {
+			collectionQueuingResults.remove( ce );
+		}
+	}
+
+	/**
+	 * The result which queued the given collection, if it was queued while a result was read.
+	 *
+	 * @see #startQueuingResult()
+	 */
+	public Object getQueuingResult(CollectionEntry ce) {
+		return collectionQueuingResults == null ? null : collectionQueuingResults.get( ce );
 	}
 
 	/**
@@ -368,6 +489,54 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
+	/**
+	 * Get the first uninitialized collection queued by the given result for each collection role,
+	 * except the given one.
+	 *
+	 * @param excludedRole The collection role to exclude, usually the one being batch loaded
+	 * @param queuingResult The result which queued the collections
+	 * @return A collection for each other role having collections available for batch fetching
+	 */
+	public List<PersistentCollection<?>> getFirstBatchLoadableCollections(String excludedRole, Object queuingResult) {
+		if ( batchLoadableCollections == null || collectionQueuingResults == null ) {
+			return Collections.emptyList();
+		}
+
+		final List<PersistentCollection<?>> collections = new ArrayList<>( batchLoadableCollections.size() );
+		for ( Entry<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> entry
+				: batchLoadableCollections.entrySet() ) {
+			if ( entry.getKey().equals( excludedRole ) ) {
+				continue;
+			}
+			for ( Entry<CollectionEntry, PersistentCollection<?>> me : entry.getValue().entrySet() ) {
+				final CollectionEntry ce = me.getKey();
+				final PersistentCollection<?> collection = me.getValue();
+				if ( collectionQueuingResults.get( ce ) == queuingResult
+						&& ce.getLoadedKey() != null
+						&& !collection.wasInitialized()
+						&& !isCached( ce.getLoadedKey(), ce.getLoadedPersister() ) ) {
+					collections.add( collection );
+					break;
+				}
+			}
+		}
+		return collections;
+	}
+
+	/**
+	 * Whether the batches queued for other entity types and collection roles are currently
+	 * being fetched.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_QUEUED_ROLES
+	 */
+	public boolean isFetchingQueuedBatches() {
+		return fetchingQueuedBatches;
+	}
+
+	public void setFetchingQueuedBatches(boolean fetchingQueuedBatches) {
+		this.fetchingQueuedBatches = fetchingQueuedBatches;
+	}
+
 	private boolean isCached(Object collectionKey, CollectionPersister persister) {
 		SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
@@ -28,7 +28,9 @@ public interface Optimizer {
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
 	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * implementation could drop this requirement. Since the callback might
+	 * access the database, prefer a {@link java.util.concurrent.locks.Lock}
+	 * to a monitor, which would pin a virtual thread to its carrier thread.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
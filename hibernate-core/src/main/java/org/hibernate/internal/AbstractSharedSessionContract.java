@@ -169,7 +169,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		interceptor = interpret( options.getInterceptor() );
 		jdbcTimeZone = options.getJdbcTimeZone();
 		sessionEventsManager = createSessionEventsManager(options);
-		entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
 		setCriteriaCopyTreeEnabled( factory.getSessionFactoryOptions().isCriteriaCopyTreeEnabled() );
 
 		final StatementInspector statementInspector = interpret( options.getStatementInspector() );
@@ -325,6 +324,10 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	}
 
 	public EntityNameResolver getEntityNameResolver() {
+		// created lazily, as most sessions never need to resolve an entity name
+		if ( entityNameResolver == null ) {
+			entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
+		}
 		return entityNameResolver;
 	}
 
@@ -587,7 +590,15 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	public JdbcConnectionAccess getJdbcConnectionAccess() {
 		// See class-level JavaDocs for a discussion of the concurrent-access safety of this method
 		if ( jdbcConnectionAccess == null ) {
-			if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
+			if ( fastSessionServices.readOnlyConnectionProvider != null ) {
+				jdbcConnectionAccess = new ReadOnlyRoutingJdbcConnectionAccess(
+						this,
+						getEventListenerManager(),
+						fastSessionServices.connectionProvider,
+						fastSessionServices.readOnlyConnectionProvider
+				);
+			}
+			else if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
 						fastSessionServices.connectionProvider
@@ -1398,7 +1409,6 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 				.getService( TransactionCoordinatorBuilder.class )
 				.buildTransactionCoordinator( jdbcCoordinator, this );
 
-		entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
 	}
 
 }
@@ -18,9 +18,11 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadOnlyConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -82,6 +84,8 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Internal component.
@@ -152,10 +156,12 @@ public final class FastSessionServices {
 	//Intentionally Package private:
 	final boolean disallowOutOfTransactionUpdateOperations;
 	final boolean useStreamForLobBinding;
+	final boolean naturalIdResolutionCacheEnabled;
 	final int preferredSqlTypeCodeForBoolean;
 	final TimeZoneStorageStrategy defaultTimeZoneStorageStrategy;
 	final boolean requiresMultiTenantConnectionProvider;
 	final ConnectionProvider connectionProvider;
+	final ConnectionProvider readOnlyConnectionProvider;
 	final MultiTenantConnectionProvider multiTenantConnectionProvider;
 	final ClassLoaderService classLoaderService;
 	final TransactionCoordinatorBuilder transactionCoordinatorBuilder;
@@ -230,6 +236,11 @@ public final class FastSessionServices {
 		this.dialect = jdbcServices.getJdbcEnvironment().getDialect();
 		this.disallowOutOfTransactionUpdateOperations = !sessionFactoryOptions.isAllowOutOfTransactionUpdateOperations();
 		this.useStreamForLobBinding = dialect.useInputStreamToInsertBlob();
+		this.naturalIdResolutionCacheEnabled = getInt(
+				NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE,
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				0
+		) > 0;
 		this.preferredSqlTypeCodeForBoolean = sessionFactoryOptions.getPreferredSqlTypeCodeForBoolean();
 		this.defaultTimeZoneStorageStrategy = sessionFactoryOptions.getDefaultTimeZoneStorageStrategy();
 		this.defaultJdbcBatchSize = sessionFactoryOptions.getJdbcBatchSize();
@@ -240,6 +251,9 @@ public final class FastSessionServices {
 		this.connectionProvider = requiresMultiTenantConnectionProvider
 				? null
 				: serviceRegistry.getService( ConnectionProvider.class );
+		this.readOnlyConnectionProvider = requiresMultiTenantConnectionProvider
+				? null
+				: serviceRegistry.getService( ReadOnlyConnectionProvider.class );
 		this.multiTenantConnectionProvider = requiresMultiTenantConnectionProvider
 				? serviceRegistry.getService( MultiTenantConnectionProvider.class )
 				: null;
@@ -370,6 +384,10 @@ public final class FastSessionServices {
 		return useStreamForLobBinding;
 	}
 
+	public boolean isNaturalIdResolutionCacheEnabled() {
+		return naturalIdResolutionCacheEnabled;
+	}
+
 	public void firePostLoadEvent(final PostLoadEvent postLoadEvent) {
 		eventListenerGroup_POST_LOAD.fireEventOnEachListener( postLoadEvent, PostLoadEventListener::onPostLoad );
 	}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link JdbcConnectionAccess} which obtains the connections of a session from the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#READ_ONLY_CONNECTION_PROVIDER read-only
+ * connection provider} when the session is {@linkplain org.hibernate.Session#isDefaultReadOnly()
+ * read-only by default} at the time the connection is acquired, and from the primary
+ * connection provider otherwise.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#READ_ONLY_CONNECTION_PROVIDER
+ */
+public class ReadOnlyRoutingJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
+	private final SharedSessionContractImplementor session;
+	private final SessionEventListener listener;
+	private final ConnectionProvider connectionProvider;
+	private final ConnectionProvider readOnlyConnectionProvider;
+
+	private transient Connection readOnlyConnection;
+
+	public ReadOnlyRoutingJdbcConnectionAccess(
+			SharedSessionContractImplementor session,
+			SessionEventListener listener,
+			ConnectionProvider connectionProvider,
+			ConnectionProvider readOnlyConnectionProvider) {
+		Objects.requireNonNull( session );
+		Objects.requireNonNull( listener );
+		Objects.requireNonNull( connectionProvider );
+		Objects.requireNonNull( readOnlyConnectionProvider );
+		this.session = session;
+		this.listener = listener;
+		this.connectionProvider = connectionProvider;
+		this.readOnlyConnectionProvider = readOnlyConnectionProvider;
+	}
+
+	@Override
+	public Connection obtainConnection() throws SQLException {
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			if ( session.getPersistenceContextInternal().isDefaultReadOnly() ) {
+				readOnlyConnection = readOnlyConnectionProvider.getConnection();
+				return readOnlyConnection;
+			}
+			else {
+				return connectionProvider.getConnection();
+			}
+		}
+		finally {
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	@Override
+	public void releaseConnection(Connection connection) throws SQLException {
+		try {
+			listener.jdbcConnectionReleaseStart();
+			if ( connection == readOnlyConnection ) {
+				readOnlyConnection = null;
+				readOnlyConnectionProvider.closeConnection( connection );
+			}
+			else {
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		finally {
+			listener.jdbcConnectionReleaseEnd();
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return connectionProvider.supportsAggressiveRelease()
+			&& readOnlyConnectionProvider.supportsAggressiveRelease();
+	}
+}
@@ -212,6 +212,8 @@ public class SessionImpl
 	private final boolean autoClose;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
+	private transient PersistEvent persistEvent; //cached PersistEvent instance
+	private transient AutoFlushEvent autoFlushEvent; //cached AutoFlushEvent instance
 
 	private transient TransactionObserver transactionObserver;
 
@@ -734,13 +736,42 @@ public class SessionImpl
 	@Override
 	public void persist(String entityName, Object object) throws HibernateException {
 		checkOpen();
-		firePersist( new PersistEvent( entityName, object, this ) );
+		final PersistEvent event = recyclePersistEventInstance( entityName, object );
+		firePersist( event );
+		finishWithEventInstance( event );
 	}
 
 	@Override
 	public void persist(Object object) throws HibernateException {
 		checkOpen();
-		firePersist( new PersistEvent( null, object, this ) );
+		final PersistEvent event = recyclePersistEventInstance( null, object );
+		firePersist( event );
+		finishWithEventInstance( event );
+	}
+
+	/**
+	 * Helper to avoid creating a new instance of PersistEvent for each persist() operation.
+	 */
+	private PersistEvent recyclePersistEventInstance(final String entityName, final Object object) {
+		final PersistEvent event = persistEvent;
+		if ( event == null || object == null ) {
+			return new PersistEvent( entityName, object, this );
+		}
+		else {
+			// the instance is not available to a nested persist() operation until we're done with it
+			persistEvent = null;
+			event.setEntityName( entityName );
+			event.setObject( object );
+			return event;
+		}
+	}
+
+	private void finishWithEventInstance(PersistEvent event) {
+		if ( persistEvent == null ) {
+			event.setEntityName( null );
+			event.setObject( null );
+			persistEvent = event;
+		}
 	}
 
 	@Override
@@ -1365,10 +1396,38 @@ public class SessionImpl
 			// do not auto-flush while outside a transaction
 			return false;
 		}
-		AutoFlushEvent event = new AutoFlushEvent( querySpaces, this );
+		final AutoFlushEvent event = recycleAutoFlushEventInstance( querySpaces );
 		fastSessionServices.eventListenerGroup_AUTO_FLUSH
 				.fireEventOnEachListener( event, AutoFlushEventListener::onAutoFlush );
-		return event.isFlushRequired();
+		final boolean flushRequired = event.isFlushRequired();
+		finishWithEventInstance( event );
+		return flushRequired;
+	}
+
+	/**
+	 * Helper to avoid creating a new instance of AutoFlushEvent each time a query is executed.
+	 */
+	private AutoFlushEvent recycleAutoFlushEventInstance(final Set<String> querySpaces) {
+		final AutoFlushEvent event = autoFlushEvent;
+		if ( event == null ) {
+			return new AutoFlushEvent( querySpaces, this );
+		}
+		else {
+			// the instance is not available to a nested auto-flush until we're done with it
+			autoFlushEvent = null;
+			event.setQuerySpaces( querySpaces );
+			return event;
+		}
+	}
+
+	private void finishWithEventInstance(AutoFlushEvent event) {
+		if ( autoFlushEvent == null ) {
+			event.setQuerySpaces( null );
+			event.setFlushRequired( false );
+			event.setNumberOfEntitiesProcessed( 0 );
+			event.setNumberOfCollectionsProcessed( 0 );
+			autoFlushEvent = event;
+		}
 	}
 
 	@Override
@@ -2275,6 +2334,7 @@ public class SessionImpl
 	public void startTransactionBoundary() {
 		checkOpenOrWaitingForAutoClose();
 		super.startTransactionBoundary();
+		persistenceContext.transactionJoined();
 	}
 
 	@Override
@@ -73,7 +73,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	};
 
-	private final PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
+	private final StatefulPersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
 	private final boolean connectionProvided;
 
@@ -598,6 +598,12 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		flushBeforeTransactionCompletion();
 	}
 
+	@Override
+	public void startTransactionBoundary() {
+		super.startTransactionBoundary();
+		temporaryPersistenceContext.transactionJoined();
+	}
+
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
 		if ( shouldAutoClose() && !isClosed() ) {
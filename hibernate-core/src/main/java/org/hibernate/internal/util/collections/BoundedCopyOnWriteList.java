@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * A list of a bounded number of elements, most recently added first, meant for small caches
+ * which are read far more often than they are updated.
+ * <p>
+ * The elements are kept in an array which is never modified, but replaced by compare-and-set
+ * when an element is added, so that readers never lock.  When the list is full, adding an
+ * element evicts the least recently added one.
+ *
+ * @param <E> The type of the elements
+ */
+public final class BoundedCopyOnWriteList<E> {
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private final int maxSize;
+	private final AtomicReference<Object[]> elements = new AtomicReference<>( NO_ELEMENTS );
+
+	public BoundedCopyOnWriteList(int maxSize) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "The maximum size must be positive: " + maxSize );
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The current elements, most recently added first.  The returned list is never modified.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> snapshot() {
+		return (List<E>) Collections.unmodifiableList( Arrays.asList( elements.get() ) );
+	}
+
+	/**
+	 * Add the given element first, unless an element added since the given snapshot was taken
+	 * matches the given predicate: concurrent callers which all missed in the same snapshot
+	 * then only add one of their equivalent elements.
+	 *
+	 * @param element The element to add
+	 * @param snapshot A {@linkplain #snapshot() snapshot} which was searched for a match already
+	 * @param match The predicate of the elements which make adding the given element unnecessary
+	 *
+	 * @return The matching element added concurrently, or the given element if it was added
+	 */
+	@SuppressWarnings("unchecked")
+	public E addFirst(E element, List<E> snapshot, Predicate<? super E> match) {
+		List<E> checked = snapshot;
+		while ( true ) {
+			final Object[] current = elements.get();
+			for ( Object existing : current ) {
+				if ( !containsInstance( checked, existing ) && match.test( (E) existing ) ) {
+					return (E) existing;
+				}
+			}
+			checked = (List<E>) Arrays.asList( current );
+
+			final int length = Math.min( current.length + 1, maxSize );
+			final Object[] replacement = new Object[length];
+			replacement[0] = element;
+			System.arraycopy( current, 0, replacement, 1, length - 1 );
+			if ( elements.compareAndSet( current, replacement ) ) {
+				return element;
+			}
+		}
+	}
+
+	private static boolean containsInstance(List<?> list, Object element) {
+		for ( Object candidate : list ) {
+			if ( candidate == element ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
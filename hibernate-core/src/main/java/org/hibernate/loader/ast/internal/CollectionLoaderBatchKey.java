@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -91,6 +92,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
+		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
 
 		if ( numberOfIds == 1 ) {
 			final List<JdbcParameter> jdbcParameters = new ArrayList<>( keyJdbcCount );
@@ -116,13 +118,30 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			).load( key, session );
 		}
 		else {
+			final Object queuingResult = getQueuingResult( collectionKey, session );
+
 			batchLoad( batchIds, numberOfIds , session );
+
+			BatchFetchQueueHelper.fetchQueuedBatches(
+					attributeMapping.getCollectionDescriptor().getRole(),
+					queuingResult,
+					session
+			);
 		}
 
-		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	private static Object getQueuingResult(CollectionKey collectionKey, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final PersistentCollection<?> collection = persistenceContext.getCollection( collectionKey );
+		if ( collection == null ) {
+			return null;
+		}
+		final CollectionEntry collectionEntry = persistenceContext.getCollectionEntry( collection );
+		return collectionEntry == null ? null : persistenceContext.getBatchFetchQueue().getQueuingResult( collectionEntry );
+	}
+
 	private void batchLoad(
 			Object[] batchIds,
 			int numberOfIds,
@@ -79,7 +79,6 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				// in the batch to avoid including it in future batches that get executed.
 				BatchFetchQueueHelper.removeBatchLoadableEntityKey( pkValue, getLoadable(), session );
 			}
-
 			return result;
 		}
 
@@ -105,6 +104,11 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				session.getFactory()
 		);
 
+		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
+		final Object queuingResult = session.getPersistenceContextInternal()
+				.getBatchFetchQueue()
+				.getQueuingResult( entityKey );
+
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
@@ -159,7 +163,8 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
 		}
 
-		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
+		BatchFetchQueueHelper.fetchQueuedBatches( getLoadable().getEntityName(), queuingResult, session );
+
 		//noinspection unchecked
 		return (T) session.getPersistenceContext().getEntity( entityKey );
 	}
@@ -7,6 +7,7 @@
 package org.hibernate.metamodel.mapping.internal;
 
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.internal.NaturalIdResolutionCache;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -18,6 +19,7 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 	private final EntityMappingType declaringType;
 	private final boolean mutable;
 	private final NaturalIdDataAccess cachesAccess;
+	private final NaturalIdResolutionCache resolutionCache;
 
 	private final NavigableRole role;
 
@@ -26,6 +28,9 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 		this.mutable = mutable;
 
 		this.cachesAccess = declaringType.getEntityPersister().getNaturalIdCacheAccessStrategy();
+		this.resolutionCache = mutable || cachesAccess != null
+				? null
+				: NaturalIdResolutionCache.create( declaringType.getEntityPersister() );
 
 		this.role = declaringType.getNavigableRole().append( PART_NAME );
 	}
@@ -49,6 +54,16 @@ public abstract class AbstractNaturalIdMapping implements NaturalIdMapping {
 		return cachesAccess;
 	}
 
+	/**
+	 * Access to the natural-id resolutions shared by all sessions, when the natural-id
+	 * is not cached in the second-level cache.
+	 *
+	 * @return The shared resolutions, or {@code null} if resolutions are not shared
+	 */
+	public NaturalIdResolutionCache getResolutionCache() {
+		return resolutionCache;
+	}
+
 	@Override
 	public EntityMappingType findContainingEntityMapping() {
 		return declaringType;
@@ -203,6 +203,7 @@ import org.hibernate.persister.entity.mutation.UpdateCoordinatorNoOp;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
 import org.hibernate.persister.internal.SqlFragmentPredicate;
 import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.property.access.spi.Setter;
 import org.hibernate.query.SemanticException;
@@ -429,6 +430,9 @@ public abstract class AbstractEntityPersister
 	private BeforeExecutionGenerator versionGenerator;
 
 	protected ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	// the accessors of all attributes, used by getPropertyValues()/setPropertyValues() without accessOptimizer
+	private Getter[] attributeGetters;
+	private Setter[] attributeSetters;
 
 	private final Object[] fullDiscriminatorValues;
 
@@ -4039,23 +4043,10 @@ public abstract class AbstractEntityPersister
 			accessOptimizer.setPropertyValues( object, values );
 		}
 		else {
-			if ( hasSubclasses() ) {
-				for ( int i = 0; i < attributeMappings.size(); i++ ) {
-					final Object value = values[i];
-					if ( value != UNFETCHED_PROPERTY ) {
-						final Setter setter = attributeMappings.get( i ).getPropertyAccess().getSetter();
-						setter.set( object, value );
-					}
-				}
-			}
-			else {
-				for ( int i = 0; i < staticFetchableList.size(); i++ ) {
-					final AttributeMapping attribute = staticFetchableList.get( i );
-					final Object value = values[i];
-					if ( value != UNFETCHED_PROPERTY ) {
-						final Setter setter = attribute.getPropertyAccess().getSetter();
-						setter.set( object, value );
-					}
+			for ( int i = 0; i < attributeSetters.length; i++ ) {
+				final Object value = values[i];
+				if ( value != UNFETCHED_PROPERTY ) {
+					attributeSetters[i].set( object, value );
 				}
 			}
 		}
@@ -4074,17 +4065,24 @@ public abstract class AbstractEntityPersister
 		}
 		else {
 			final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
-			final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
-			final Object[] values = new Object[ getNumberOfAttributeMappings() ];
-			for ( int i = 0; i < attributeMappings.size(); i++ ) {
-				final AttributeMapping attributeMapping = attributeMappings.get( i );
-				final AttributeMetadata attributeMetadata = attributeMapping.getAttributeMetadata();
-				if ( ! lazyAttributesMetadata.isLazyAttribute( attributeMapping.getAttributeName() )
-						|| enhancementMetadata.isAttributeLoaded( object, attributeMapping.getAttributeName() ) ) {
-					values[i] = attributeMetadata.getPropertyAccess().getGetter().get( object );
+			final Object[] values = new Object[ attributeGetters.length ];
+			if ( enhancementMetadata.isEnhancedForLazyLoading() ) {
+				final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
+				for ( int i = 0; i < attributeGetters.length; i++ ) {
+					final String attributeName = attributeMappings.get( i ).getAttributeName();
+					if ( ! lazyAttributesMetadata.isLazyAttribute( attributeName )
+							|| enhancementMetadata.isAttributeLoaded( object, attributeName ) ) {
+						values[i] = attributeGetters[i].get( object );
+					}
+					else {
+						values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+					}
 				}
-				else {
-					values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+			else {
+				// no lazy attributes, so no need to check each of them
+				for ( int i = 0; i < attributeGetters.length; i++ ) {
+					values[i] = attributeGetters[i].get( object );
 				}
 			}
 
@@ -4597,6 +4595,15 @@ public abstract class AbstractEntityPersister
 
 		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
 		accessOptimizer = reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
+		if ( accessOptimizer == null ) {
+			attributeGetters = new Getter[attributeMappings.size()];
+			attributeSetters = new Setter[attributeMappings.size()];
+			for ( int i = 0; i < attributeMappings.size(); i++ ) {
+				final PropertyAccess propertyAccess = attributeMappings.get( i ).getPropertyAccess();
+				attributeGetters[i] = propertyAccess.getGetter();
+				attributeSetters[i] = propertyAccess.getSetter();
+			}
+		}
 
 		// register a callback for after all `#prepareMappingModel` calls have finished.  here we want to delay the
 		// generation of `staticFetchableList` because we need to wait until after all subclasses have had their
@@ -7,10 +7,13 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -34,6 +37,7 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
@@ -85,6 +89,16 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	private final MutationOperationGroup versionUpdateGroup;
 	private final BatchKey versionUpdateBatchkey;
 
+	/**
+	 * The maximum number of dynamic update groups cached per entity
+	 */
+	private static final int DYNAMIC_UPDATE_GROUP_CACHE_SIZE = 32;
+
+	// the dynamic update groups, keyed by the "shape" of the update they were generated for,
+	// or null if the dynamic update groups of this entity are not cached
+	private final Map<BitSet, DynamicUpdateGroup> dynamicUpdateGroups;
+	private final AtomicInteger dynamicUpdateGroupCount = new AtomicInteger();
+
 	public UpdateCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -107,6 +121,21 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 					null
 			);
 		}
+
+		// with dirty or all optimistic locking, the SQL also depends on which of the
+		// previous values are null: do not bother caching the dynamic update groups
+		final OptimisticLockStyle optimisticLockStyle = entityPersister.optimisticLockStyle();
+		if ( entityPersister.getEntityMetamodel().isDynamicUpdate()
+				&& ( optimisticLockStyle.isNone() || optimisticLockStyle.isVersion() ) ) {
+			this.dynamicUpdateGroups = new BoundedConcurrentHashMap<>(
+					DYNAMIC_UPDATE_GROUP_CACHE_SIZE,
+					4,
+					BoundedConcurrentHashMap.Eviction.LRU
+			);
+		}
+		else {
+			this.dynamicUpdateGroups = null;
+		}
 	}
 
 	@Override
@@ -919,17 +948,36 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
 		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
-				id,
-				rowId,
-				oldValues,
-				valuesAnalysis,
-				session
-		);
+		final MutationOperationGroup dynamicUpdateGroup;
+		final BatchKeyAccess batchKeyAccess;
+		if ( dynamicUpdateGroups == null ) {
+			dynamicUpdateGroup = generateDynamicUpdateGroup(
+					id,
+					rowId,
+					oldValues,
+					valuesAnalysis,
+					session
+			);
+			batchKeyAccess = NoBatchKeyAccess.INSTANCE;
+		}
+		else {
+			final DynamicUpdateGroup cachedUpdateGroup = resolveDynamicUpdateGroup(
+					id,
+					rowId,
+					oldValues,
+					valuesAnalysis,
+					session
+			);
+			dynamicUpdateGroup = cachedUpdateGroup.operationGroup;
+			batchKeyAccess = resolveDynamicUpdateBatchKeyAccess( cachedUpdateGroup, session );
+		}
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, true );
+		final MutationExecutor mutationExecutor = session.getSessionFactory()
+				.getServiceRegistry()
+				.getService( MutationExecutorService.class )
+				.createExecutor( batchKeyAccess, dynamicUpdateGroup, session );
 
 		decomposeForUpdate(
 				id,
@@ -1002,6 +1050,110 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		return versionUpdateBatchkey;
 	}
 
+	/**
+	 * Resolve the dynamic update group for the "shape" of the update, generating it if needed.
+	 * Updates of the same shape use the same SQL, and thus also share a batch key.
+	 */
+	private DynamicUpdateGroup resolveDynamicUpdateGroup(
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		final BitSet shape = dynamicUpdateShape( rowId, oldValues, valuesAnalysis );
+		final DynamicUpdateGroup cachedUpdateGroup = dynamicUpdateGroups.get( shape );
+		if ( cachedUpdateGroup != null ) {
+			return cachedUpdateGroup;
+		}
+
+		final MutationOperationGroup operationGroup = generateDynamicUpdateGroup(
+				id,
+				rowId,
+				oldValues,
+				valuesAnalysis,
+				session
+		);
+		final BatchKey dynamicUpdateBatchKey = batchKey == null
+				? null
+				: new BasicBatchKey(
+						entityPersister().getEntityName() + "#UPDATE#" + dynamicUpdateGroupCount.incrementAndGet(),
+						null
+				);
+		final DynamicUpdateGroup updateGroup = new DynamicUpdateGroup( operationGroup, dynamicUpdateBatchKey );
+		final DynamicUpdateGroup existingUpdateGroup = dynamicUpdateGroups.putIfAbsent( shape, updateGroup );
+		return existingUpdateGroup == null ? updateGroup : existingUpdateGroup;
+	}
+
+	/**
+	 * Everything the SQL of a dynamic update depends on: which attributes are
+	 * set, used for locking and dirty, which tables are updated, whether the
+	 * row id is used and whether the previous version is known, and null.
+	 */
+	private BitSet dynamicUpdateShape(Object rowId, Object[] oldValues, UpdateValuesAnalysisImpl valuesAnalysis) {
+		final List<AttributeAnalysis> attributeAnalyses = valuesAnalysis.getAttributeAnalyses();
+		final int attributeCount = attributeAnalyses.size();
+		final int tableCount = entityPersister().getTableMappingsCount();
+		final int flagsPosition = attributeCount * 3 + tableCount;
+
+		final BitSet shape = new BitSet( flagsPosition + 3 );
+		for ( int i = 0; i < attributeCount; i++ ) {
+			final AttributeAnalysis attributeAnalysis = attributeAnalyses.get( i );
+			if ( attributeAnalysis.includeInSet() ) {
+				shape.set( i * 3 );
+			}
+			if ( attributeAnalysis.includeInLocking() ) {
+				shape.set( i * 3 + 1 );
+			}
+			if ( attributeAnalysis.getDirtynessStatus().isDirty() ) {
+				shape.set( i * 3 + 2 );
+			}
+		}
+		for ( EntityTableMapping tableMapping : valuesAnalysis.getTablesNeedingUpdate() ) {
+			shape.set( attributeCount * 3 + tableMapping.getRelativePosition() );
+		}
+		if ( rowId != null ) {
+			shape.set( flagsPosition );
+		}
+		if ( oldValues == null ) {
+			shape.set( flagsPosition + 1 );
+		}
+		else {
+			final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
+			if ( versionMapping != null
+					&& oldValues[versionMapping.getVersionAttribute().getStateArrayPosition()] == null ) {
+				shape.set( flagsPosition + 2 );
+			}
+		}
+		return shape;
+	}
+
+	private BatchKeyAccess resolveDynamicUpdateBatchKeyAccess(
+			DynamicUpdateGroup updateGroup,
+			SharedSessionContractImplementor session) {
+		if ( updateGroup.batchKey != null
+				&& session.getTransactionCoordinator() != null
+				&& session.getTransactionCoordinator().isTransactionActive() ) {
+			return updateGroup;
+		}
+
+		return NoBatchKeyAccess.INSTANCE;
+	}
+
+	private static class DynamicUpdateGroup implements BatchKeyAccess {
+		private final MutationOperationGroup operationGroup;
+		private final BatchKey batchKey;
+
+		private DynamicUpdateGroup(MutationOperationGroup operationGroup, BatchKey batchKey) {
+			this.operationGroup = operationGroup;
+			this.batchKey = batchKey;
+		}
+
+		@Override
+		public BatchKey getBatchKey() {
+			return batchKey;
+		}
+	}
+
 	protected MutationOperationGroup generateDynamicUpdateGroup(
 			Object id,
 			Object rowId,
@@ -8,26 +8,41 @@ package org.hibernate.proxy.pojo.bytebuddy;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -42,6 +57,22 @@ public class ByteBuddyProxyHelper implements Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyHelper.class );
 	private static final String PROXY_NAMING_SUFFIX = "HibernateProxy";
 
+	/**
+	 * The name of the constant field of pre-generated proxy classes recording the Hibernate version and
+	 * the hash of the persistent class they were generated for
+	 */
+	public static final String PREGENERATED_PROXY_SIGNATURE_FIELD_NAME = "$$_hibernate_pregenerated_proxy_signature";
+
+	/**
+	 * The name of the resources listing the persistent classes with a pre-generated proxy class,
+	 * one per line.  Pre-generated proxy classes are only looked up for the classes listed by the
+	 * resources of their class loader.
+	 */
+	public static final String PREGENERATED_PROXY_INDEX_RESOURCE_NAME = "META-INF/hibernate/pregenerated-proxies";
+
+	// the persistent classes listed by the pre-generated proxy indexes of each class loader
+	private static final Map<ClassLoader, Set<String>> PREGENERATED_PROXY_INDEXES = new ConcurrentReferenceHashMap<>();
+
 	private final ByteBuddyState byteBuddyState;
 
 	public ByteBuddyProxyHelper(ByteBuddyState byteBuddyState) {
@@ -59,9 +90,167 @@ public class ByteBuddyProxyHelper implements Serializable {
 		Collections.addAll( key, interfaces );
 
 		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ),
+				() -> locatePregeneratedProxy( persistentClass, interfaces ),
 				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
 	}
 
+	/**
+	 * Build the proxy class of the given persistent class, to be pre-generated at build time: it is named after
+	 * {@link #getPregeneratedProxyClassName(Class)} and, once saved along with the persistent class and listed
+	 * by a {@value #PREGENERATED_PROXY_INDEX_RESOURCE_NAME} resource, it is used by
+	 * {@link #buildProxy(Class, Class[])} instead of generating a proxy class at runtime.
+	 * <p>
+	 * The proxy class records the Hibernate version and a hash of the persistent class, and is ignored at
+	 * runtime if either changed since: pre-generated proxy classes have to be generated again when upgrading
+	 * Hibernate, or when the persistent class is recompiled.
+	 *
+	 * @see org.hibernate.bytecode.internal.bytebuddy.ProxyClassPregenerator
+	 */
+	public DynamicType.Unloaded<?> buildPregeneratedProxy(final Class<?> persistentClass, final Class<?>[] interfaces) {
+		final String signature = getPregeneratedProxySignature( persistentClass );
+		if ( signature == null ) {
+			throw new HibernateException( "Unable to read the class file of " + persistentClass.getName() );
+		}
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder =
+				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) );
+		return byteBuddyState.make(
+				byteBuddy -> proxyBuilder.apply( byteBuddy )
+						.name( getPregeneratedProxyClassName( persistentClass ) )
+						.defineField(
+								PREGENERATED_PROXY_SIGNATURE_FIELD_NAME,
+								String.class,
+								Visibility.PUBLIC,
+								Ownership.STATIC,
+								FieldManifestation.FINAL
+						)
+						.value( signature )
+		);
+	}
+
+	/**
+	 * The name of the pre-generated proxy class of the given persistent class.
+	 */
+	public static String getPregeneratedProxyClassName(Class<?> persistentClass) {
+		return persistentClass.getName() + "$" + PROXY_NAMING_SUFFIX;
+	}
+
+	private static Class<?> locatePregeneratedProxy(Class<?> persistentClass, Class<?>[] interfaces) {
+		if ( !getPregeneratedProxyIndex( persistentClass.getClassLoader() ).contains( persistentClass.getName() ) ) {
+			return null;
+		}
+
+		final Class<?> proxyClass;
+		try {
+			proxyClass = Class.forName(
+					getPregeneratedProxyClassName( persistentClass ),
+					false,
+					persistentClass.getClassLoader()
+			);
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+
+		// only use the pre-generated proxy class if it was generated by this version of Hibernate,
+		// for this version of the persistent class
+		final Object signature;
+		try {
+			signature = proxyClass.getField( PREGENERATED_PROXY_SIGNATURE_FIELD_NAME ).get( null );
+		}
+		catch (NoSuchFieldException | IllegalAccessException e) {
+			LOG.debugf( "Ignoring pre-generated proxy class %s, which has no signature", proxyClass.getName() );
+			return null;
+		}
+		if ( !signature.equals( getPregeneratedProxySignature( persistentClass ) ) ) {
+			LOG.debugf(
+					"Ignoring pre-generated proxy class %s, generated by another version of Hibernate or for another version of %s",
+					proxyClass.getName(),
+					persistentClass.getName()
+			);
+			return null;
+		}
+
+		// and if it matches the proxy we would have generated
+		if ( !ProxyConfiguration.class.isAssignableFrom( proxyClass )
+				|| interfaces.length == 1 && !persistentClass.isAssignableFrom( proxyClass ) ) {
+			LOG.debugf( "Ignoring pre-generated proxy class %s", proxyClass.getName() );
+			return null;
+		}
+		for ( Class<?> proxyInterface : interfaces ) {
+			if ( !proxyInterface.isAssignableFrom( proxyClass ) ) {
+				LOG.debugf( "Ignoring pre-generated proxy class %s", proxyClass.getName() );
+				return null;
+			}
+		}
+		LOG.debugf( "Using pre-generated proxy class %s", proxyClass.getName() );
+		return proxyClass;
+	}
+
+	private static Set<String> getPregeneratedProxyIndex(ClassLoader classLoader) {
+		if ( classLoader == null ) {
+			return Collections.emptySet();
+		}
+		final Set<String> index = PREGENERATED_PROXY_INDEXES.get( classLoader );
+		if ( index != null ) {
+			return index;
+		}
+		final Set<String> readIndex = readPregeneratedProxyIndex( classLoader );
+		final Set<String> previousIndex = PREGENERATED_PROXY_INDEXES.putIfAbsent( classLoader, readIndex );
+		return previousIndex == null ? readIndex : previousIndex;
+	}
+
+	private static Set<String> readPregeneratedProxyIndex(ClassLoader classLoader) {
+		final Set<String> index = new HashSet<>();
+		try {
+			final Enumeration<URL> resources = classLoader.getResources( PREGENERATED_PROXY_INDEX_RESOURCE_NAME );
+			while ( resources.hasMoreElements() ) {
+				try ( BufferedReader reader = new BufferedReader(
+						new InputStreamReader( resources.nextElement().openStream(), StandardCharsets.UTF_8 )
+				) ) {
+					String line;
+					while ( ( line = reader.readLine() ) != null ) {
+						if ( !line.isBlank() ) {
+							index.add( line.trim() );
+						}
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			LOG.debugf( e, "Unable to read the pre-generated proxy indexes" );
+		}
+		return index.isEmpty() ? Collections.emptySet() : index;
+	}
+
+	/**
+	 * The Hibernate version, followed by the hash of the class file of the given persistent class,
+	 * or {@code null} if the class file cannot be read.
+	 */
+	private static String getPregeneratedProxySignature(Class<?> persistentClass) {
+		final ClassLoader classLoader = persistentClass.getClassLoader();
+		if ( classLoader == null ) {
+			return null;
+		}
+		try ( InputStream inputStream = classLoader.getResourceAsStream(
+				persistentClass.getName().replace( '.', '/' ) + ".class"
+		) ) {
+			if ( inputStream == null ) {
+				return null;
+			}
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) != -1 ) {
+				digest.update( buffer, 0, read );
+			}
+			return Version.getVersionString() + "/" + Base64.getEncoder().encodeToString( digest.digest() );
+		}
+		catch (IOException | NoSuchAlgorithmException e) {
+			LOG.debugf( e, "Unable to hash the class file of %s", persistentClass.getName() );
+			return null;
+		}
+	}
+
 	/**
 	 * @deprecated Use {@link #buildUnloadedProxy(TypePool, TypeDefinition, Collection)} instead.
 	 */
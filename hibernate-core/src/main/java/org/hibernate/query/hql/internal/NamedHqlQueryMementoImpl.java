@@ -15,15 +15,20 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.AbstractNamedQueryMemento;
+import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sqm.SqmSelectionQuery;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
+import jakarta.persistence.Tuple;
+
 /**
  * Definition of a named query, defined in the mapping metadata.
  *
@@ -44,6 +49,8 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 	private final LockOptions lockOptions;
 	private final Map<String, String> parameterTypes;
 
+	private transient volatile HqlInterpretation hqlInterpretation;
+
 	public NamedHqlQueryMementoImpl(
 			String name,
 			String hqlString,
@@ -130,6 +137,50 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 		queryEngine.getHqlTranslator().translate( hqlString, null );
 	}
 
+	/**
+	 * Resolve the interpretation of the named HQL for creating a query.
+	 * <p>
+	 * The interpretation is kept by the memento once {@linkplain #interpret interpreted},
+	 * so that creating the named query never parses the HQL again, even after the
+	 * interpretation has been evicted from the bounded {@link QueryInterpretationCache}.
+	 */
+	public HqlInterpretation resolveHqlInterpretation(
+			SharedSessionContractImplementor session,
+			Class<?> expectedResultType) {
+		final HqlInterpretation interpretation = hqlInterpretation;
+		if ( interpretation != null && !isMultiValued( expectedResultType ) ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( hqlString );
+			}
+			return interpretation;
+		}
+		return interpret( session.getFactory().getQueryEngine(), expectedResultType );
+	}
+
+	/**
+	 * Interpret the named HQL through the {@link QueryInterpretationCache}, keeping
+	 * the interpretation for later {@linkplain #resolveHqlInterpretation resolution}.
+	 */
+	public HqlInterpretation interpret(QueryEngine queryEngine, Class<?> expectedResultType) {
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final HqlInterpretation interpretation = interpretationCache.resolveHqlInterpretation(
+				hqlString,
+				expectedResultType,
+				s -> queryEngine.getHqlTranslator().translate( hqlString, expectedResultType )
+		);
+		// the interpretation differs for "multi" result types, see QueryInterpretationCacheStandardImpl
+		if ( interpretationCache.isEnabled() && !isMultiValued( expectedResultType ) ) {
+			hqlInterpretation = interpretation;
+		}
+		return interpretation;
+	}
+
+	private static boolean isMultiValued(Class<?> expectedResultType) {
+		return expectedResultType != null
+				&& ( expectedResultType.isArray() || Tuple.class.isAssignableFrom( expectedResultType ) );
+	}
+
 	@Override
 	public <T> SqmQueryImplementor<T> toQuery(SharedSessionContractImplementor session) {
 		return toQuery( session, null );
@@ -18,6 +18,7 @@ import org.hibernate.boot.query.NamedProcedureCallDefinition;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
+import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
@@ -235,12 +236,18 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
 			try {
 				log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
-				String queryString = hqlMemento.getHqlString();
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						s -> queryEngine.getHqlTranslator().translate( queryString, null )
-				);
+				if ( hqlMemento instanceof NamedHqlQueryMementoImpl ) {
+					// keeps the interpretation with the memento, see NamedHqlQueryMementoImpl
+					( (NamedHqlQueryMementoImpl) hqlMemento ).interpret( queryEngine, null );
+				}
+				else {
+					String queryString = hqlMemento.getHqlString();
+					interpretationCache.resolveHqlInterpretation(
+							queryString,
+							null,
+							s -> queryEngine.getHqlTranslator().translate( queryString, null )
+					);
+				}
 			}
 			catch ( HibernateException e ) {
 				errors.put( hqlMemento.getRegistrationName(), e );
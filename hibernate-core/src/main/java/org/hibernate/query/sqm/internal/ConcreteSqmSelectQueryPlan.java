@@ -20,6 +20,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedCopyOnWriteList;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Query;
@@ -72,7 +73,16 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of {@linkplain #cacheableSqmInterpretations interpretations} kept per plan
+	 */
+	private static final int MAX_CACHEABLE_SQM_INTERPRETATIONS = 4;
+
+	// The interpretations of the query, most recently built first.  There may be more than
+	// one when the translation depends on parameter bindings or on the limit: each variant
+	// is then built once and reused.
+	private final BoundedCopyOnWriteList<CacheableSqmInterpretation> cacheableSqmInterpretations =
+			new BoundedCopyOnWriteList<>( MAX_CACHEABLE_SQM_INTERPRETATIONS );
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -252,54 +262,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
-
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
-
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-			}
-		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+		// NOTE : the interpretations are accessed without locking: concurrent callers may
+		//		happen to build the same variant, in which case only one of them is kept
+		final List<CacheableSqmInterpretation> interpretations = cacheableSqmInterpretations.snapshot();
+		for ( CacheableSqmInterpretation interpretation : interpretations ) {
+			// If the translation depends on parameter bindings or on the query options, we can only
+			// use an interpretation compatible with them, which is still better than having to
+			// translate from SQM to SQL AST again
+			final JdbcParameterBindings jdbcParameterBindings = createCompatibleJdbcParameterBindings(
+					interpretation,
+					executionContext
+			);
+			if ( jdbcParameterBindings != null ) {
+				return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
 			}
 		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-		}
+		final CacheableSqmInterpretation interpretation = buildCacheableSqmInterpretation(
+				sqm,
+				domainParameterXref,
+				executionContext
+		);
+		final JdbcParameterBindings jdbcParameterBindings = interpretation.firstParameterBindings;
+		interpretation.firstParameterBindings = null;
+		// a concurrent caller may have added a variant compatible with the same bindings meanwhile
+		cacheableSqmInterpretations.addFirst(
+				interpretation,
+				interpretations,
+				existing -> createCompatibleJdbcParameterBindings( existing, executionContext ) != null
+		);
+
+		return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	/**
+	 * Create the parameter bindings for the given interpretation, or return {@code null} if it
+	 * is not compatible with the limit or with the parameter bindings of the given context.
+	 * The limit is checked first, since it does not need the bindings.
+	 */
+	private JdbcParameterBindings createCompatibleJdbcParameterBindings(
+			CacheableSqmInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		final JdbcOperationQuerySelect jdbcSelect = interpretation.jdbcSelect;
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( !jdbcSelect.isCompatibleWithLimit( queryOptions ) ) {
+			return null;
+		}
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+		if ( jdbcSelect.dependsOnParameterBindings()
+				&& !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+			return null;
+		}
+		return jdbcParameterBindings;
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
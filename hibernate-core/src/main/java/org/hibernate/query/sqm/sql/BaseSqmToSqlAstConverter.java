@@ -436,6 +436,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 	private final Map<SqmParameter<?>, List<List<JdbcParameter>>> jdbcParamsBySqmParam = new IdentityHashMap<>();
 	private final JdbcParameters jdbcParameters = new JdbcParametersImpl();
+	// the dense ordinals of the JDBC parameters, so that their bindings can be kept in an array
+	private int jdbcParameterCount;
 	private final DomainParameterXref domainParameterXref;
 	private final QueryParameterBindings domainParameterBindings;
 	private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes = new LinkedHashMap<>();
@@ -5184,7 +5186,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 					assert parameters.size() == 1;
 					final JdbcParameter jdbcParameter = parameters.get( 0 );
 					if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
-						final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
+						final JdbcParameter newJdbcParameter =
+								new JdbcParameterImpl( jdbcMapping, jdbcParameter.getParameterId() );
 						parameters.set( 0, newJdbcParameter );
 						jdbcParameters.getJdbcParameters().remove( jdbcParameter );
 						jdbcParameters.getJdbcParameters().add( newJdbcParameter );
@@ -5514,11 +5517,17 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 		if ( bindable instanceof SelectableMappings ) {
 			( (SelectableMappings) bindable ).forEachSelectable(
-					(index, selectableMapping) -> jdbcParameterConsumer.accept( index, new SqlTypedMappingJdbcParameter( selectableMapping ) )
+					(index, selectableMapping) -> jdbcParameterConsumer.accept(
+							index,
+							new SqlTypedMappingJdbcParameter( selectableMapping, jdbcParameterCount++ )
+					)
 			);
 		}
 		else if ( bindable instanceof SelectableMapping ) {
-			jdbcParameterConsumer.accept( 0, new SqlTypedMappingJdbcParameter( (SelectableMapping) bindable ) );
+			jdbcParameterConsumer.accept(
+					0,
+					new SqlTypedMappingJdbcParameter( (SelectableMapping) bindable, jdbcParameterCount++ )
+			);
 		}
 		else {
 			SqlTypedMapping sqlTypedMapping = null;
@@ -5563,12 +5572,15 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				bindable.forEachJdbcType(
 						(index, jdbcMapping) -> jdbcParameterConsumer.accept(
 								index,
-								new JdbcParameterImpl( jdbcMapping )
+								new JdbcParameterImpl( jdbcMapping, jdbcParameterCount++ )
 						)
 				);
 			}
 			else {
-				jdbcParameterConsumer.accept( 0, new SqlTypedMappingJdbcParameter( sqlTypedMapping ) );
+				jdbcParameterConsumer.accept(
+						0,
+						new SqlTypedMappingJdbcParameter( sqlTypedMapping, jdbcParameterCount++ )
+				);
 			}
 		}
 	}
@@ -20,6 +20,7 @@ import org.hibernate.engine.config.internal.ConfigurationServiceInitiator;
 import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
 import org.hibernate.engine.jdbc.connections.internal.ConnectionProviderInitiator;
 import org.hibernate.engine.jdbc.connections.internal.MultiTenantConnectionProviderInitiator;
+import org.hibernate.engine.jdbc.connections.internal.ReadOnlyConnectionProviderInitiator;
 import org.hibernate.engine.jdbc.cursor.internal.RefCursorSupportInitiator;
 import org.hibernate.engine.jdbc.dialect.internal.DialectFactoryInitiator;
 import org.hibernate.engine.jdbc.dialect.internal.DialectResolverInitiator;
@@ -108,6 +109,9 @@ public final class StandardServiceInitiators {
 		// MultiTenantConnectionProvider
 		serviceInitiators.add( MultiTenantConnectionProviderInitiator.INSTANCE );
 
+		// ReadOnlyConnectionProvider
+		serviceInitiators.add( ReadOnlyConnectionProviderInitiator.INSTANCE );
+
 		// DialectResolver
 		serviceInitiators.add( DialectResolverInitiator.INSTANCE );
 
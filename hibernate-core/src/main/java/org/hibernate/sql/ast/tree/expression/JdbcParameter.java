@@ -13,4 +13,14 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
  */
 public interface JdbcParameter extends Expression {
 	JdbcParameterBinder getParameterBinder();
+
+	/**
+	 * The dense, zero-based ordinal assigned to this parameter when the SQL AST
+	 * it belongs to was created, or {@code -1} if none was assigned.
+	 *
+	 * @see org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl
+	 */
+	default int getParameterId() {
+		return -1;
+	}
 }
@@ -37,9 +37,20 @@ public abstract class AbstractJdbcParameter
 		implements JdbcParameter, JdbcParameterBinder, MappingModelExpressible, SqlExpressible {
 
 	private final JdbcMapping jdbcMapping;
+	private final int parameterId;
 
 	public AbstractJdbcParameter(JdbcMapping jdbcMapping) {
+		this( jdbcMapping, -1 );
+	}
+
+	public AbstractJdbcParameter(JdbcMapping jdbcMapping, int parameterId) {
 		this.jdbcMapping = jdbcMapping;
+		this.parameterId = parameterId;
+	}
+
+	@Override
+	public int getParameterId() {
+		return parameterId;
 	}
 
 	@Override
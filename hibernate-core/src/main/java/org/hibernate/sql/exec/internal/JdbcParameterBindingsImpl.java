@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.exec.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
@@ -33,15 +35,29 @@ import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 
 /**
  * Standard implementation of JdbcParameterBindings
+ * <p>
+ * The bindings of parameters with a {@linkplain JdbcParameter#getParameterId() parameter id}
+ * are kept in arrays indexed by that id, so that binding them to the statement does not
+ * involve any hashing.  The bindings of other parameters, and of parameters whose id is
+ * already taken by another parameter, are kept in an identity map.
  *
  * @author Steve Ebersole
  */
 public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
+	private static final JdbcParameter[] NO_PARAMETERS = new JdbcParameter[0];
+	private static final JdbcParameterBinding[] NO_BINDINGS = new JdbcParameterBinding[0];
+
+	// indexed by parameter id
+	private JdbcParameter[] parameters = NO_PARAMETERS;
+	private JdbcParameterBinding[] bindings = NO_BINDINGS;
+	private int bindingCount;
+
 	private Map<JdbcParameter, JdbcParameterBinding> bindingMap;
 
 	public JdbcParameterBindingsImpl(int expectedParameterCount) {
 		if ( expectedParameterCount > 0 ) {
-			bindingMap = new IdentityHashMap<>( expectedParameterCount );
+			parameters = new JdbcParameter[expectedParameterCount];
+			bindings = new JdbcParameterBinding[expectedParameterCount];
 		}
 	}
 
@@ -51,7 +67,8 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 			List<JdbcParameterBinder> jdbcParameterBinders,
 			SessionFactoryImplementor factory) {
 		if ( !parameterOccurrences.isEmpty() ) {
-			bindingMap = new IdentityHashMap<>( parameterOccurrences.size() );
+			parameters = new JdbcParameter[parameterOccurrences.size()];
+			bindings = new JdbcParameterBinding[parameterOccurrences.size()];
 
 			final Dialect dialect = factory.getJdbcServices().getDialect();
 			final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
@@ -92,14 +109,14 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 					Object lastBindValue = null;
 					if ( valueConverter != null ) {
 						for ( Object bindValue : bindValues ) {
-							final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+							final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping, jdbcParameterBinders.size() );
 							jdbcParameterBinders.add( jdbcParameter );
 							lastBindValue = bindValue == null ? null : valueConverter.toRelationalValue( bindValue );
 							addBinding( jdbcParameter, new JdbcParameterBindingImpl( jdbcMapping, lastBindValue ) );
 						}
 						if ( bindValueMaxCount != bindValueCount ) {
 							for ( int i = bindValueCount; i < bindValueMaxCount; i++ ) {
-								final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+								final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping, jdbcParameterBinders.size() );
 								jdbcParameterBinders.add( jdbcParameter );
 								addBinding( jdbcParameter, new JdbcParameterBindingImpl( jdbcMapping, lastBindValue ) );
 							}
@@ -107,14 +124,14 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 					}
 					else {
 						for ( Object bindValue : bindValues ) {
-							final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+							final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping, jdbcParameterBinders.size() );
 							jdbcParameterBinders.add( jdbcParameter );
 							addBinding( jdbcParameter, new JdbcParameterBindingImpl( jdbcMapping, bindValue ) );
 							lastBindValue = bindValue;
 						}
 						if ( bindValueMaxCount != bindValueCount ) {
 							for ( int i = bindValueCount; i < bindValueMaxCount; i++ ) {
-								final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+								final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping, jdbcParameterBinders.size() );
 								jdbcParameterBinders.add( jdbcParameter );
 								addBinding( jdbcParameter, new JdbcParameterBindingImpl( jdbcMapping, lastBindValue ) );
 							}
@@ -130,7 +147,7 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 						bindValue = binding.getBindValue();
 					}
 
-					final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+					final JdbcParameterImpl jdbcParameter = new JdbcParameterImpl( jdbcMapping, jdbcParameterBinders.size() );
 					jdbcParameterBinders.add( jdbcParameter );
 					addBinding(
 							jdbcParameter,
@@ -151,6 +168,27 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 
 	@Override
 	public void addBinding(JdbcParameter parameter, JdbcParameterBinding binding) {
+		final int parameterId = parameter.getParameterId();
+		if ( parameterId >= 0 ) {
+			if ( parameterId >= parameters.length ) {
+				final int length = Math.max( parameterId + 1, parameters.length << 1 );
+				parameters = Arrays.copyOf( parameters, length );
+				bindings = Arrays.copyOf( bindings, length );
+			}
+			final JdbcParameter existing = parameters[parameterId];
+			if ( existing == null ) {
+				parameters[parameterId] = parameter;
+				bindings[parameterId] = binding;
+				bindingCount++;
+				return;
+			}
+			else if ( existing == parameter ) {
+				bindings[parameterId] = binding;
+				return;
+			}
+			// the id is taken by a parameter of another SQL AST
+		}
+
 		if ( bindingMap == null ) {
 			bindingMap = new IdentityHashMap<>();
 		}
@@ -160,11 +198,28 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 
 	@Override
 	public Collection<JdbcParameterBinding> getBindings() {
-		return bindingMap == null ? Collections.emptyList() : bindingMap.values();
+		if ( bindingCount == 0 ) {
+			return bindingMap == null ? Collections.emptyList() : bindingMap.values();
+		}
+		final List<JdbcParameterBinding> result =
+				new ArrayList<>( bindingCount + ( bindingMap == null ? 0 : bindingMap.size() ) );
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( parameters[i] != null ) {
+				result.add( bindings[i] );
+			}
+		}
+		if ( bindingMap != null ) {
+			result.addAll( bindingMap.values() );
+		}
+		return result;
 	}
 
 	@Override
 	public JdbcParameterBinding getBinding(JdbcParameter parameter) {
+		final int parameterId = parameter.getParameterId();
+		if ( parameterId >= 0 && parameterId < parameters.length && parameters[parameterId] == parameter ) {
+			return bindings[parameterId];
+		}
 		if ( bindingMap == null ) {
 			return null;
 		}
@@ -173,15 +228,30 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 
 	@Override
 	public void visitBindings(BiConsumer<JdbcParameter, JdbcParameterBinding> action) {
-		if ( bindingMap == null ) {
-			return;
+		if ( bindingCount != 0 ) {
+			for ( int i = 0; i < parameters.length; i++ ) {
+				if ( parameters[i] != null ) {
+					action.accept( parameters[i], bindings[i] );
+				}
+			}
 		}
-		for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : bindingMap.entrySet() ) {
-			action.accept( entry.getKey(), entry.getValue() );
+		if ( bindingMap != null ) {
+			for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : bindingMap.entrySet() ) {
+				action.accept( entry.getKey(), entry.getValue() );
+			}
 		}
 	}
 
+	/**
+	 * Removes all bindings, keeping the allocated storage so that this
+	 * instance can be reused for another execution.
+	 */
 	public void clear() {
+		if ( bindingCount != 0 ) {
+			Arrays.fill( parameters, null );
+			Arrays.fill( bindings, null );
+			bindingCount = 0;
+		}
 		if ( bindingMap != null ) {
 			bindingMap.clear();
 		}
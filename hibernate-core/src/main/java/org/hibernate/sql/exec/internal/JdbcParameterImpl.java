@@ -17,4 +17,8 @@ public class JdbcParameterImpl extends AbstractJdbcParameter {
 	public JdbcParameterImpl(JdbcMapping jdbcMapping) {
 		super( jdbcMapping );
 	}
+
+	public JdbcParameterImpl(JdbcMapping jdbcMapping, int parameterId) {
+		super( jdbcMapping, parameterId );
+	}
 }
@@ -20,6 +20,11 @@ public class SqlTypedMappingJdbcParameter extends AbstractJdbcParameter {
 		this.sqlTypedMapping = sqlTypedMapping;
 	}
 
+	public SqlTypedMappingJdbcParameter(SqlTypedMapping sqlTypedMapping, int parameterId) {
+		super( sqlTypedMapping.getJdbcMapping(), parameterId );
+		this.sqlTypedMapping = sqlTypedMapping;
+	}
+
 	public SqlTypedMapping getSqlTypedMapping() {
 		return sqlTypedMapping;
 	}
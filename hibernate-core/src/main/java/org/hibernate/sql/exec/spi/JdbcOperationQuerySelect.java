@@ -148,37 +148,20 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		if ( !isCompatibleWithLimit( queryOptions ) ) {
+			return false;
+		}
 		if ( !appliedParameters.isEmpty() ) {
 			if ( jdbcParameterBindings == null ) {
 				return false;
 			}
 			for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : appliedParameters.entrySet() ) {
 				final JdbcParameter parameter = entry.getKey();
-				final JdbcParameterBinding appliedBinding = entry.getValue();
-				// This is a special case where the rendered SQL depends on the presence of the parameter,
-				// but not specifically on the value. In this case we have to re-generate the SQL if we can't find a binding
-				// The need for this can be tested with the OracleFollowOnLockingTest#testPessimisticLockWithMaxResultsThenNoFollowOnLocking
-				// Since the Limit is not part of the query plan cache key, but this has an effect on follow on locking,
-				// we must treat the absence of Limit parameters, when they were considered for locking, as incompatible
-				if ( appliedBinding == null ) {
-					if ( parameter == offsetParameter ) {
-						if ( queryOptions.getLimit() == null || queryOptions.getLimit().getFirstRowJpa() == 0 ) {
-							return false;
-						}
-					}
-					else if ( parameter == limitParameter ) {
-						if ( queryOptions.getLimit() == null || queryOptions.getLimit().getMaxRowsJpa() == Integer.MAX_VALUE ) {
-							return false;
-						}
-					}
-					else if ( jdbcParameterBindings.getBinding( parameter ) == null ) {
-						return false;
-					}
-				}
-				// We handle limit and offset parameters below
+				// The limit and offset parameters are handled by isCompatibleWithLimit
 				if ( parameter != offsetParameter && parameter != limitParameter ) {
+					final JdbcParameterBinding appliedBinding = entry.getValue();
 					final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( parameter );
-					if ( binding == null || !appliedBinding.getBindType()
+					if ( binding == null || appliedBinding == null || !appliedBinding.getBindType()
 							.getJavaTypeDescriptor()
 							.areEqual( binding.getBindValue(), appliedBinding.getBindValue() ) ) {
 						return false;
@@ -186,7 +169,34 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 				}
 			}
 		}
+		return true;
+	}
+
+	/**
+	 * Whether this operation is compatible with the limit of the given query options.  This
+	 * does not need the parameter bindings, and so is cheaper to check first.
+	 *
+	 * @see #isCompatibleWith(JdbcParameterBindings, QueryOptions)
+	 */
+	public boolean isCompatibleWithLimit(QueryOptions queryOptions) {
 		final Limit limit = queryOptions.getLimit();
+		// This is a special case where the rendered SQL depends on the presence of the parameter,
+		// but not specifically on the value. In this case we have to re-generate the SQL if we can't find a binding
+		// The need for this can be tested with the OracleFollowOnLockingTest#testPessimisticLockWithMaxResultsThenNoFollowOnLocking
+		// Since the Limit is not part of the query plan cache key, but this has an effect on follow on locking,
+		// we must treat the absence of Limit parameters, when they were considered for locking, as incompatible
+		if ( offsetParameter != null && appliedParameters.containsKey( offsetParameter )
+				&& appliedParameters.get( offsetParameter ) == null ) {
+			if ( limit == null || limit.getFirstRowJpa() == 0 ) {
+				return false;
+			}
+		}
+		if ( limitParameter != null && appliedParameters.containsKey( limitParameter )
+				&& appliedParameters.get( limitParameter ) == null ) {
+			if ( limit == null || limit.getMaxRowsJpa() == Integer.MAX_VALUE ) {
+				return false;
+			}
+		}
 		if ( offsetParameter == null && limitParameter == null ) {
 			if ( limit != null && !limit.isEmpty() ) {
 				return false;
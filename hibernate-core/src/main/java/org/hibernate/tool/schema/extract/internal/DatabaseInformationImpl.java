@@ -37,6 +37,9 @@ public class DatabaseInformationImpl
 	private final InformationExtractor extractor;
 
 	private final Map<QualifiedSequenceName, SequenceInformation> sequenceInformationMap = new HashMap<>();
+	// the tables already extracted, by the name reported by the database, so that
+	// resolving the tables referenced by foreign keys does not extract them again
+	private final Map<QualifiedTableName, TableInformation> extractedTableInformationMap = new HashMap<>();
 
 	public DatabaseInformationImpl(
 			ServiceRegistry serviceRegistry,
@@ -110,17 +113,27 @@ public class DatabaseInformationImpl
 			throw new IllegalArgumentException( "Passed table name cannot be null" );
 		}
 
-		return extractor.getTable(
+		final TableInformation tableInformation = extractor.getTable(
 				context.catalogWithDefault( tableName.getCatalogName() ),
 				context.schemaWithDefault( tableName.getSchemaName() ),
 				tableName.getTableName()
 		);
+		if ( tableInformation != null ) {
+			extractedTableInformationMap.put( tableInformation.getName(), tableInformation );
+		}
+		return tableInformation;
 	}
 
 	@Override
 	public NameSpaceTablesInformation getTablesInformation(Namespace namespace) {
-		return extractor.getTables( context.catalogWithDefault( namespace.getPhysicalName().getCatalog() ),
-				context.schemaWithDefault( namespace.getPhysicalName().getSchema() ) );
+		final NameSpaceTablesInformation tablesInformation = extractor.getTables(
+				context.catalogWithDefault( namespace.getPhysicalName().getCatalog() ),
+				context.schemaWithDefault( namespace.getPhysicalName().getSchema() )
+		);
+		for ( TableInformation tableInformation : tablesInformation.getTableInformations() ) {
+			extractedTableInformationMap.put( tableInformation.getName(), tableInformation );
+		}
+		return tablesInformation;
 	}
 
 	@Override
@@ -148,7 +161,14 @@ public class DatabaseInformationImpl
 
 	@Override
 	public TableInformation locateTableInformation(QualifiedTableName tableName) {
-		return getTableInformation( tableName );
+		// called for every column of every foreign key
+		if ( extractedTableInformationMap.containsKey( tableName ) ) {
+			return extractedTableInformationMap.get( tableName );
+		}
+		final TableInformation tableInformation = getTableInformation( tableName );
+		// remember tables which could not be located as well
+		extractedTableInformationMap.put( tableName, tableInformation );
+		return tableInformation;
 	}
 
 	@Override
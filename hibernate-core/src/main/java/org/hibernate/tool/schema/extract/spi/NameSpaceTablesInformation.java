@@ -6,6 +6,7 @@
  */
 package org.hibernate.tool.schema.extract.spi;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,4 +35,8 @@ public class NameSpaceTablesInformation {
 	public TableInformation getTableInformation(String tableName) {
 		return tables.get( tableName );
 	}
+
+	public Collection<TableInformation> getTableInformations() {
+		return tables.values();
+	}
 }
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.internal.StreamBackedBinaryStream;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * Descriptor for {@link InputStream} handling, mapped to a {@code BLOB} column.
+ * <p>
+ * The value is never materialized in memory: when read, the stream reads lazily from
+ * the {@link Blob} locator returned by the JDBC driver, and so may only be consumed
+ * while the locator is valid, usually until the end of the transaction; when written,
+ * the stream is bound with no length, and consumed by the JDBC driver.
+ * <p>
+ * Like {@link Blob}s, streams are treated as immutable because they can neither be
+ * checked for changes nor deep copied: an update is only detected when a new stream
+ * is assigned to the attribute.
+ */
+public class InputStreamJavaType extends AbstractClassJavaType<InputStream> {
+	public static final InputStreamJavaType INSTANCE = new InputStreamJavaType();
+
+	public static class InputStreamMutabilityPlan implements MutabilityPlan<InputStream> {
+		public static final InputStreamMutabilityPlan INSTANCE = new InputStreamMutabilityPlan();
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public InputStream deepCopy(InputStream value) {
+			return value;
+		}
+
+		@Override
+		public Serializable disassemble(InputStream value, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Streams are not cacheable" );
+		}
+
+		@Override
+		public InputStream assemble(Serializable cached, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Streams are not cacheable" );
+		}
+	}
+
+	public InputStreamJavaType() {
+		super( InputStream.class, InputStreamMutabilityPlan.INSTANCE, IncomparableComparator.INSTANCE );
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+		return indicators.getJdbcType( indicators.resolveJdbcTypeCode( Types.BLOB ) );
+	}
+
+	@Override
+	public String extractLoggableRepresentation(InputStream value) {
+		return value == null ? "null" : "{stream}";
+	}
+
+	@Override
+	public String toString(InputStream value) {
+		throw new UnsupportedOperationException( "Streams cannot be rendered as strings" );
+	}
+
+	@Override
+	public int extractHashCode(InputStream value) {
+		return System.identityHashCode( value );
+	}
+
+	@Override
+	public boolean areEqual(InputStream one, InputStream another) {
+		return one == another;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> X unwrap(InputStream value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( InputStream.class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		else if ( BinaryStream.class.isAssignableFrom( type ) ) {
+			// the length is unknown, the stream is bound without it
+			return (X) new StreamBackedBinaryStream( value, -1 );
+		}
+		else if ( byte[].class.isAssignableFrom( type ) ) {
+			// only when the Dialect cannot bind a stream
+			return (X) DataHelper.extractBytes( value );
+		}
+
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> InputStream wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( value instanceof InputStream ) {
+			return (InputStream) value;
+		}
+		else if ( value instanceof Blob ) {
+			try {
+				return ( (Blob) value ).getBinaryStream();
+			}
+			catch ( SQLException e ) {
+				throw new HibernateException( "Unable to access blob stream", e );
+			}
+		}
+		else if ( value instanceof byte[] ) {
+			return new ByteArrayInputStream( (byte[]) value );
+		}
+
+		throw unknownWrap( value.getClass() );
+	}
+
+	@Override
+	public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+		return dialect.getDefaultLobLength();
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.CharacterStream;
+import org.hibernate.engine.jdbc.internal.CharacterStreamImpl;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * Descriptor for {@link Reader} handling, mapped to a {@code CLOB} column.
+ * <p>
+ * The value is never materialized in memory: when read, the reader reads lazily from
+ * the {@link Clob} locator returned by the JDBC driver, and so may only be consumed
+ * while the locator is valid, usually until the end of the transaction; when written,
+ * the reader is bound with no length, and consumed by the JDBC driver.
+ *
+ * @see InputStreamJavaType
+ */
+public class ReaderJavaType extends AbstractClassJavaType<Reader> {
+	public static final ReaderJavaType INSTANCE = new ReaderJavaType();
+
+	public static class ReaderMutabilityPlan implements MutabilityPlan<Reader> {
+		public static final ReaderMutabilityPlan INSTANCE = new ReaderMutabilityPlan();
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public Reader deepCopy(Reader value) {
+			return value;
+		}
+
+		@Override
+		public Serializable disassemble(Reader value, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Readers are not cacheable" );
+		}
+
+		@Override
+		public Reader assemble(Serializable cached, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Readers are not cacheable" );
+		}
+	}
+
+	public ReaderJavaType() {
+		super( Reader.class, ReaderMutabilityPlan.INSTANCE, IncomparableComparator.INSTANCE );
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+		return indicators.getJdbcType( indicators.resolveJdbcTypeCode( Types.CLOB ) );
+	}
+
+	@Override
+	public String extractLoggableRepresentation(Reader value) {
+		return value == null ? "null" : "{reader}";
+	}
+
+	@Override
+	public String toString(Reader value) {
+		throw new UnsupportedOperationException( "Readers cannot be rendered as strings" );
+	}
+
+	@Override
+	public int extractHashCode(Reader value) {
+		return System.identityHashCode( value );
+	}
+
+	@Override
+	public boolean areEqual(Reader one, Reader another) {
+		return one == another;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> X unwrap(Reader value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( Reader.class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		else if ( CharacterStream.class.isAssignableFrom( type ) ) {
+			// the length is unknown, the reader is bound without it
+			return (X) new CharacterStreamImpl( value, -1 );
+		}
+		else if ( String.class.isAssignableFrom( type ) ) {
+			// only when the Dialect cannot bind a reader
+			return (X) DataHelper.extractString( value );
+		}
+
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> Reader wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( value instanceof Reader ) {
+			return (Reader) value;
+		}
+		else if ( value instanceof Clob ) {
+			try {
+				return ( (Clob) value ).getCharacterStream();
+			}
+			catch ( SQLException e ) {
+				throw new HibernateException( "Unable to access clob stream", e );
+			}
+		}
+		else if ( value instanceof String ) {
+			return new StringReader( (String) value );
+		}
+
+		throw unknownWrap( value.getClass() );
+	}
+
+	@Override
+	public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+		return dialect.getDefaultLobLength();
+	}
+}
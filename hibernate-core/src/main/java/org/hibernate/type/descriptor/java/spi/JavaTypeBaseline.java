@@ -50,6 +50,7 @@ import org.hibernate.type.descriptor.java.DurationJavaType;
 import org.hibernate.type.descriptor.java.FloatJavaType;
 import org.hibernate.type.descriptor.java.FloatPrimitiveArrayJavaType;
 import org.hibernate.type.descriptor.java.InetAddressJavaType;
+import org.hibernate.type.descriptor.java.InputStreamJavaType;
 import org.hibernate.type.descriptor.java.InstantJavaType;
 import org.hibernate.type.descriptor.java.IntegerPrimitiveArrayJavaType;
 import org.hibernate.type.descriptor.java.IntegerJavaType;
@@ -69,6 +70,7 @@ import org.hibernate.type.descriptor.java.OffsetDateTimeJavaType;
 import org.hibernate.type.descriptor.java.OffsetTimeJavaType;
 import org.hibernate.type.descriptor.java.PrimitiveByteArrayJavaType;
 import org.hibernate.type.descriptor.java.PrimitiveCharacterArrayJavaType;
+import org.hibernate.type.descriptor.java.ReaderJavaType;
 import org.hibernate.type.descriptor.java.ShortJavaType;
 import org.hibernate.type.descriptor.java.ShortPrimitiveArrayJavaType;
 import org.hibernate.type.descriptor.java.StringJavaType;
@@ -122,6 +124,8 @@ public class JavaTypeBaseline {
 		target.addBaselineDescriptor( BlobJavaType.INSTANCE );
 		target.addBaselineDescriptor( ClobJavaType.INSTANCE );
 		target.addBaselineDescriptor( NClobJavaType.INSTANCE );
+		target.addBaselineDescriptor( InputStreamJavaType.INSTANCE );
+		target.addBaselineDescriptor( ReaderJavaType.INSTANCE );
 
 //		target.addBaselineDescriptor( ByteArrayJavaType.INSTANCE );
 //		target.addBaselineDescriptor( CharacterArrayJavaType.INSTANCE );
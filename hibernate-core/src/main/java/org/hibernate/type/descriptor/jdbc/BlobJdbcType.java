@@ -6,6 +6,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -82,6 +83,27 @@ public abstract class BlobJdbcType implements JdbcType {
 		return getBlobBinder( javaType );
 	}
 
+	private static void bindBinaryStream(PreparedStatement st, int index, BinaryStream binaryStream)
+			throws SQLException {
+		if ( binaryStream.getLength() < 0 ) {
+			// stream the value, of unknown length
+			st.setBinaryStream( index, binaryStream.getInputStream() );
+		}
+		else {
+			st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
+		}
+	}
+
+	private static void bindBinaryStream(CallableStatement st, String name, BinaryStream binaryStream)
+			throws SQLException {
+		if ( binaryStream.getLength() < 0 ) {
+			st.setBinaryStream( name, binaryStream.getInputStream() );
+		}
+		else {
+			st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
+		}
+	}
+
 	public static final BlobJdbcType DEFAULT = new BlobJdbcType() {
 		@Override
 		public String toString() {
@@ -104,7 +126,7 @@ public abstract class BlobJdbcType implements JdbcType {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( value instanceof InputStream || options.useStreamForLobBinding() ) {
 						descriptor = STREAM_BINDING;
 					}
 					descriptor.getBlobBinder( javaType ).doBind( st, value, index, options );
@@ -118,7 +140,7 @@ public abstract class BlobJdbcType implements JdbcType {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( value instanceof InputStream || options.useStreamForLobBinding() ) {
 						descriptor = STREAM_BINDING;
 					}
 					descriptor.getBlobBinder( javaType ).doBind( st, value, name, options );
@@ -173,13 +195,24 @@ public abstract class BlobJdbcType implements JdbcType {
 				@Override
 				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 						throws SQLException {
-					st.setBlob( index, javaType.unwrap( value, Blob.class, options ) );
+					if ( value instanceof InputStream ) {
+						// stream the value, of unknown length
+						st.setBlob( index, (InputStream) value );
+					}
+					else {
+						st.setBlob( index, javaType.unwrap( value, Blob.class, options ) );
+					}
 				}
 
 				@Override
 				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 						throws SQLException {
-					st.setBlob( name, javaType.unwrap( value, Blob.class, options ) );
+					if ( value instanceof InputStream ) {
+						st.setBlob( name, (InputStream) value );
+					}
+					else {
+						st.setBlob( name, javaType.unwrap( value, Blob.class, options ) );
+					}
 				}
 			};
 		}
@@ -207,7 +240,7 @@ public abstract class BlobJdbcType implements JdbcType {
 							BinaryStream.class,
 							options
 					);
-					st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
+					bindBinaryStream( st, index, binaryStream );
 				}
 
 				@Override
@@ -218,7 +251,7 @@ public abstract class BlobJdbcType implements JdbcType {
 							BinaryStream.class,
 							options
 					);
-					st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
+					bindBinaryStream( st, name, binaryStream );
 				}
 			};
 		}
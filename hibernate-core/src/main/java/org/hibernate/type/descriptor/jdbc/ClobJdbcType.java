@@ -6,6 +6,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.Reader;
 import java.sql.CallableStatement;
 import java.sql.Clob;
 import java.sql.PreparedStatement;
@@ -84,6 +85,27 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 	}
 
 
+	private static void bindCharacterStream(PreparedStatement st, int index, CharacterStream characterStream)
+			throws SQLException {
+		if ( characterStream.getLength() < 0 ) {
+			// stream the value, of unknown length
+			st.setCharacterStream( index, characterStream.asReader() );
+		}
+		else {
+			st.setCharacterStream( index, characterStream.asReader(), characterStream.getLength() );
+		}
+	}
+
+	private static void bindCharacterStream(CallableStatement st, String name, CharacterStream characterStream)
+			throws SQLException {
+		if ( characterStream.getLength() < 0 ) {
+			st.setCharacterStream( name, characterStream.asReader() );
+		}
+		else {
+			st.setCharacterStream( name, characterStream.asReader(), characterStream.getLength() );
+		}
+	}
+
 	public static final ClobJdbcType DEFAULT = new ClobJdbcType() {
 		@Override
 		public String toString() {
@@ -103,7 +125,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 				@Override
 				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 						throws SQLException {
-					if ( options.useStreamForLobBinding() ) {
+					if ( value instanceof Reader || options.useStreamForLobBinding() ) {
 						STREAM_BINDING.getClobBinder( javaType ).doBind( st, value, index, options );
 					}
 					else {
@@ -114,7 +136,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 				@Override
 				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 						throws SQLException {
-					if ( options.useStreamForLobBinding() ) {
+					if ( value instanceof Reader || options.useStreamForLobBinding() ) {
 						STREAM_BINDING.getClobBinder( javaType ).doBind( st, value, name, options );
 					}
 					else {
@@ -193,13 +215,24 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 				@Override
 				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 						throws SQLException {
-					st.setClob( index, javaType.unwrap( value, Clob.class, options ) );
+					if ( value instanceof Reader ) {
+						// stream the value, of unknown length
+						st.setClob( index, (Reader) value );
+					}
+					else {
+						st.setClob( index, javaType.unwrap( value, Clob.class, options ) );
+					}
 				}
 
 				@Override
 				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 						throws SQLException {
-					st.setClob( name, javaType.unwrap( value, Clob.class, options ) );
+					if ( value instanceof Reader ) {
+						st.setClob( name, (Reader) value );
+					}
+					else {
+						st.setClob( name, javaType.unwrap( value, Clob.class, options ) );
+					}
 				}
 			};
 		}
@@ -227,7 +260,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 							CharacterStream.class,
 							options
 					);
-					st.setCharacterStream( index, characterStream.asReader(), characterStream.getLength() );
+					bindCharacterStream( st, index, characterStream );
 				}
 
 				@Override
@@ -238,7 +271,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 							CharacterStream.class,
 							options
 					);
-					st.setCharacterStream( name, characterStream.asReader(), characterStream.getLength() );
+					bindCharacterStream( st, name, characterStream );
 				}
 			};
 		}
@@ -266,7 +299,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 							CharacterStream.class,
 							options
 					);
-					st.setCharacterStream( index, characterStream.asReader(), characterStream.getLength() );
+					bindCharacterStream( st, index, characterStream );
 				}
 
 				@Override
@@ -277,7 +310,7 @@ public abstract class ClobJdbcType implements AdjustableJdbcType {
 							CharacterStream.class,
 							options
 					);
-					st.setCharacterStream( name, characterStream.asReader(), characterStream.getLength() );
+					bindCharacterStream( st, name, characterStream );
 				}
 			};
 		}
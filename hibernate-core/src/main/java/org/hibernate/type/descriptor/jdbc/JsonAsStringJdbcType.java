@@ -89,6 +89,12 @@ public class JsonAsStringJdbcType extends JsonJdbcType implements AdjustableJdbc
 		}
 	}
 
+	@Override
+	protected boolean isReadAsCharacterStream() {
+		// drivers stream CLOBs from the database, so large documents are never materialized as strings
+		return ddlTypeCode == SqlTypes.CLOB;
+	}
+
 	protected boolean needsLob(JdbcTypeIndicators indicators) {
 		final Dialect dialect = indicators.getTypeConfiguration()
 				.getServiceRegistry()
@@ -6,6 +6,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.Reader;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -18,6 +19,7 @@ import org.hibernate.type.SqlTypes;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.DataHelper;
 import org.hibernate.type.descriptor.java.JavaType;
 
 /**
@@ -90,6 +92,38 @@ public class JsonJdbcType implements AggregateJdbcType {
 		);
 	}
 
+	/**
+	 * Like {@link #fromString}, but reads the JSON from a character stream, allowing
+	 * the {@linkplain org.hibernate.type.format.FormatMapper JSON format mapper} to
+	 * parse large documents incrementally.
+	 */
+	protected <X> X fromReader(Reader reader, JavaType<X> javaType, WrapperOptions options) throws SQLException {
+		if ( reader == null ) {
+			return null;
+		}
+		if ( embeddableMappingType != null ) {
+			// the aggregate parser works on strings
+			return fromString( DataHelper.extractString( reader ), javaType, options );
+		}
+		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().fromReader(
+				reader,
+				javaType,
+				options
+		);
+	}
+
+	/**
+	 * Whether values are read from the character stream of the column, rather than as strings.
+	 * <p>
+	 * Only worthwhile when the driver actually streams the value from the database, which
+	 * drivers typically do for LOBs only: for other column types, the character stream of
+	 * drivers like pgjdbc, MySQL Connector/J, MariaDB Connector/J or H2 wraps the string
+	 * which was already materialized, and would only add a copy.
+	 */
+	protected boolean isReadAsCharacterStream() {
+		return false;
+	}
+
 	@Override
 	public Object createJdbcValue(Object domainValue, WrapperOptions options) throws SQLException {
 		assert embeddableMappingType != null;
@@ -137,6 +171,9 @@ public class JsonJdbcType implements AggregateJdbcType {
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				if ( embeddableMappingType == null && isReadAsCharacterStream() ) {
+					return fromReader( rs.getCharacterStream( paramIndex ), getJavaType(), options );
+				}
 				return fromString( rs.getString( paramIndex ), getJavaType(), options );
 			}
 
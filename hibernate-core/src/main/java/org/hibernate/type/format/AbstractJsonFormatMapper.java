@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.format;
+
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.DataHelper;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Base class for JSON {@link FormatMapper}s, which map values of type {@link String}
+ * and {@link Object} to and from the JSON string itself.
+ */
+public abstract class AbstractJsonFormatMapper implements FormatMapper {
+
+	@Override
+	public final <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		if ( isString( javaType ) ) {
+			//noinspection unchecked
+			return (T) charSequence.toString();
+		}
+		return fromString( charSequence, javaType.getJavaType() );
+	}
+
+	@Override
+	public final <T> T fromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		if ( isString( javaType ) ) {
+			//noinspection unchecked
+			return (T) DataHelper.extractString( reader );
+		}
+		return fromReader( reader, javaType.getJavaType() );
+	}
+
+	@Override
+	public final <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		if ( isString( javaType ) ) {
+			return (String) value;
+		}
+		return toString( value, javaType.getJavaType() );
+	}
+
+	private static boolean isString(JavaType<?> javaType) {
+		return javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class;
+	}
+
+	protected abstract <T> T fromString(CharSequence charSequence, Type type);
+
+	/**
+	 * Deserializes an object from the character stream, which is closed afterwards.
+	 */
+	protected abstract <T> T fromReader(Reader reader, Type type);
+
+	protected abstract <T> String toString(T value, Type type);
+}
@@ -6,8 +6,11 @@
  */
 package org.hibernate.type.format;
 
+import java.io.Reader;
+
 import org.hibernate.Incubating;
 import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.DataHelper;
 import org.hibernate.type.descriptor.java.JavaType;
 
 /**
@@ -39,6 +42,17 @@ public interface FormatMapper {
 	 */
 	<T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions);
 
+	/**
+	 * Deserializes an object from the character stream, which is closed afterwards.
+	 * <p>
+	 * By default, the stream is read into a string which is then passed to
+	 * {@link #fromString}.  Implementations backed by a streaming parser should
+	 * override this to avoid materializing large documents as strings.
+	 */
+	default <T> T fromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		return fromString( DataHelper.extractString( reader ), javaType, wrapperOptions );
+	}
+
 	/**
 	 * Serializes the object to a string.
 	 */
@@ -6,9 +6,12 @@
  */
 package org.hibernate.type.format.jackson;
 
-import org.hibernate.type.format.FormatMapper;
-import org.hibernate.type.descriptor.WrapperOptions;
-import org.hibernate.type.descriptor.java.JavaType;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+import org.hibernate.HibernateException;
+import org.hibernate.type.format.AbstractJsonFormatMapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,7 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Christian Beikov
  */
-public final class JacksonJsonFormatMapper implements FormatMapper {
+public final class JacksonJsonFormatMapper extends AbstractJsonFormatMapper {
 
 	public static final String SHORT_NAME = "jackson";
 
@@ -31,29 +34,36 @@ public final class JacksonJsonFormatMapper implements FormatMapper {
 	}
 
 	@Override
-	public <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
-			return (T) charSequence.toString();
-		}
+	protected <T> T fromString(CharSequence charSequence, Type type) {
 		try {
-			return objectMapper.readValue( charSequence.toString(), objectMapper.constructType( javaType.getJavaType() ) );
+			return objectMapper.readValue( charSequence.toString(), objectMapper.constructType( type ) );
 		}
 		catch (JsonProcessingException e) {
-			throw new IllegalArgumentException( "Could not deserialize string to java type: " + javaType, e );
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
 		}
 	}
 
 	@Override
-	public <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
-			return (String) value;
+	protected <T> T fromReader(Reader reader, Type type) {
+		try ( reader ) {
+			// Jackson parses the stream incrementally, so the document is never held as a whole
+			return objectMapper.readValue( reader, objectMapper.constructType( type ) );
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
 		}
+		catch (IOException e) {
+			throw new HibernateException( "IOException occurred reading JSON", e );
+		}
+	}
+
+	@Override
+	protected <T> String toString(T value, Type type) {
 		try {
-			return objectMapper.writerFor( objectMapper.constructType( javaType.getJavaType() ) )
-					.writeValueAsString( value );
+			return objectMapper.writerFor( objectMapper.constructType( type ) ).writeValueAsString( value );
 		}
 		catch (JsonProcessingException e) {
-			throw new IllegalArgumentException( "Could not serialize object of java type: " + javaType, e );
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
 }
@@ -6,9 +6,12 @@
  */
 package org.hibernate.type.format.jakartajson;
 
-import org.hibernate.type.format.FormatMapper;
-import org.hibernate.type.descriptor.WrapperOptions;
-import org.hibernate.type.descriptor.java.JavaType;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+import org.hibernate.HibernateException;
+import org.hibernate.type.format.AbstractJsonFormatMapper;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
@@ -17,7 +20,7 @@ import jakarta.json.bind.JsonbException;
 /**
  * @author Christian Beikov
  */
-public final class JsonBJsonFormatMapper implements FormatMapper {
+public final class JsonBJsonFormatMapper extends AbstractJsonFormatMapper {
 
 	public static final String SHORT_NAME = "jsonb";
 
@@ -32,28 +35,35 @@ public final class JsonBJsonFormatMapper implements FormatMapper {
 	}
 
 	@Override
-	public <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
-			return (T) charSequence.toString();
-		}
+	protected <T> T fromString(CharSequence charSequence, Type type) {
 		try {
-			return jsonb.fromJson( charSequence.toString(), javaType.getJavaType() );
+			return jsonb.fromJson( charSequence.toString(), type );
 		}
 		catch (JsonbException e) {
-			throw new IllegalArgumentException( "Could not deserialize string to java type: " + javaType, e );
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
 		}
 	}
 
 	@Override
-	public <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
-			return (String) value;
+	protected <T> T fromReader(Reader reader, Type type) {
+		try ( reader ) {
+			return jsonb.fromJson( reader, type );
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
 		}
+		catch (IOException e) {
+			throw new HibernateException( "IOException occurred reading JSON", e );
+		}
+	}
+
+	@Override
+	protected <T> String toString(T value, Type type) {
 		try {
-			return jsonb.toJson( value, javaType.getJavaType() );
+			return jsonb.toJson( value, type );
 		}
 		catch (JsonbException e) {
-			throw new IllegalArgumentException( "Could not serialize object of java type: " + javaType, e );
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
 }
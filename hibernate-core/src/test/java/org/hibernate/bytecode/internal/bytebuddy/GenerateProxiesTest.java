@@ -1,10 +1,20 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
@@ -12,11 +22,17 @@ import org.hibernate.bytecode.enhance.spi.EnhancementException;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.ByteCodeHelper;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class GenerateProxiesTest {
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Test
 	public void generateBasicProxy() {
 		BasicProxyFactoryImpl basicProxyFactory = new BasicProxyFactoryImpl( SimpleEntity.class, null,
@@ -33,6 +49,63 @@ public class GenerateProxiesTest {
 		assertNotNull( proxyClass.getConstructor().newInstance() );
 	}
 
+	@Test
+	public void proxyIsSharedByByteBuddyStates() {
+		final Class<?>[] interfaces = new Class<?>[] { HibernateProxy.class };
+		Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( SimpleEntity.class, interfaces );
+		assertSame( proxyClass, new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( SimpleEntity.class, interfaces ) );
+	}
+
+	@Test
+	public void pregeneratedProxyIsUsed() throws Exception {
+		final File classesDir = copyPregeneratedEntityClass();
+
+		final List<String> proxyClassNames = new ProxyClassPregenerator()
+				.write( Collections.singletonList( PregeneratedEntity.class ), classesDir );
+		assertEquals(
+				Collections.singletonList( ByteBuddyProxyHelper.getPregeneratedProxyClassName( PregeneratedEntity.class ) ),
+				proxyClassNames
+		);
+
+		// load the entity class, and so its proxy class, from the directory
+		final ClassLoader classLoader = new ChildFirstClassLoader( classesDir, PregeneratedEntity.class.getName() );
+		final Class<?> entityClass = classLoader.loadClass( PregeneratedEntity.class.getName() );
+
+		final Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( entityClass, new Class<?>[] { HibernateProxy.class } );
+		assertEquals( proxyClassNames.get( 0 ), proxyClass.getName() );
+		assertSame( classLoader, proxyClass.getClassLoader() );
+		assertNotNull( proxyClass.getConstructor().newInstance() );
+	}
+
+	@Test
+	public void unlistedPregeneratedProxyIsIgnored() throws Exception {
+		final File classesDir = copyPregeneratedEntityClass();
+
+		new ProxyClassPregenerator().write( Collections.singletonList( PregeneratedEntity.class ), classesDir );
+		Files.delete( classesDir.toPath().resolve( ByteBuddyProxyHelper.PREGENERATED_PROXY_INDEX_RESOURCE_NAME ) );
+
+		final ClassLoader classLoader = new ChildFirstClassLoader( classesDir, PregeneratedEntity.class.getName() );
+		final Class<?> entityClass = classLoader.loadClass( PregeneratedEntity.class.getName() );
+
+		final Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( entityClass, new Class<?>[] { HibernateProxy.class } );
+		assertNotEquals( ByteBuddyProxyHelper.getPregeneratedProxyClassName( PregeneratedEntity.class ), proxyClass.getName() );
+	}
+
+	private File copyPregeneratedEntityClass() throws IOException {
+		final File classesDir = temporaryFolder.newFolder();
+		final String entityClassFileName = PregeneratedEntity.class.getName().replace( '.', '/' ) + ".class";
+		final Path entityClassFile = classesDir.toPath().resolve( entityClassFileName );
+		Files.createDirectories( entityClassFile.getParent() );
+		try ( InputStream inputStream = PregeneratedEntity.class.getClassLoader().getResourceAsStream( entityClassFileName ) ) {
+			Files.copy( inputStream, entityClassFile );
+		}
+		return classesDir;
+	}
+
 	@Test
 	public void generateFastClassAndReflectionOptimizer() {
 		BytecodeProviderImpl bytecodeProvider = new BytecodeProviderImpl();
@@ -50,4 +123,36 @@ public class GenerateProxiesTest {
 				ByteCodeHelper.readByteCode( SimpleEntity.class.getClassLoader()
 						.getResourceAsStream( SimpleEntity.class.getName().replace( '.', '/' ) + ".class" ) ) );
 	}
+
+	private static class ChildFirstClassLoader extends URLClassLoader {
+		private final String classNamePrefix;
+
+		private ChildFirstClassLoader(File classesDir, String classNamePrefix) throws IOException {
+			super( new URL[] { classesDir.toURI().toURL() }, ChildFirstClassLoader.class.getClassLoader() );
+			this.classNamePrefix = classNamePrefix;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !name.startsWith( classNamePrefix ) ) {
+				return super.loadClass( name, resolve );
+			}
+			synchronized ( getClassLoadingLock( name ) ) {
+				final Class<?> loadedClass = findLoadedClass( name );
+				return loadedClass != null ? loadedClass : findClass( name );
+			}
+		}
+	}
+
+	public static class PregeneratedEntity {
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that dynamic updates of the same attributes are executed as a JDBC batch
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		}
+)
+@DomainModel(
+		annotatedClasses = { DynamicUpdateBatchingTest.Book.class }
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class DynamicUpdateBatchingTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				s -> {
+					for ( int i = 1; i <= 4; i++ ) {
+						s.persist( new Book( i, "title " + i, "author " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction(
+				s -> s.createMutationQuery( "delete from Book" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testSameDirtyAttributesAreBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				s -> {
+					final List<Book> books = s.createSelectionQuery( "from Book order by id", Book.class ).list();
+					statementInspector.clear();
+					for ( Book book : books ) {
+						book.title = "new " + book.title;
+					}
+					s.flush();
+
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+					assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "author" );
+				}
+		);
+
+		scope.inTransaction(
+				s -> {
+					for ( Book book : s.createSelectionQuery( "from Book order by id", Book.class ).list() ) {
+						assertThat( book.title ).isEqualTo( "new title " + book.id );
+						assertThat( book.author ).isEqualTo( "author " + book.id );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testDifferentDirtyAttributes(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				s -> {
+					final List<Book> books = s.createSelectionQuery( "from Book order by id", Book.class ).list();
+					statementInspector.clear();
+					books.get( 0 ).title = "new title 1";
+					books.get( 1 ).title = "new title 2";
+					books.get( 2 ).author = "new author 3";
+					books.get( 3 ).author = "new author 4";
+					s.flush();
+
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+				}
+		);
+
+		scope.inTransaction(
+				s -> {
+					final List<Book> books = s.createSelectionQuery( "from Book order by id", Book.class ).list();
+					assertThat( books.get( 0 ).title ).isEqualTo( "new title 1" );
+					assertThat( books.get( 1 ).title ).isEqualTo( "new title 2" );
+					assertThat( books.get( 2 ).title ).isEqualTo( "title 3" );
+					assertThat( books.get( 2 ).author ).isEqualTo( "new author 3" );
+					assertThat( books.get( 3 ).author ).isEqualTo( "new author 4" );
+				}
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "books")
+	@DynamicUpdate
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private String author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
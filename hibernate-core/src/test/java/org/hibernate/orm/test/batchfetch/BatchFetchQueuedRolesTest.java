@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				BatchFetchQueuedRolesTest.Child.class,
+				BatchFetchQueuedRolesTest.Parent.class,
+				BatchFetchQueuedRolesTest.School.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.BATCH_FETCH_QUEUED_ROLES, value = "true")
+		}
+)
+public class BatchFetchQueuedRolesTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Parent parent = new Parent( i, "parent " + i );
+						final School school = new School( i, "school " + i );
+						session.persist( parent );
+						session.persist( school );
+						session.persist( new Child( i, parent, school, "nickname " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Child child : session.createQuery( "from Child", Child.class ).getResultList() ) {
+						session.remove( child );
+					}
+					session.flush();
+					session.createMutationQuery( "delete from Parent" ).executeUpdate();
+					session.createMutationQuery( "delete from School" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testQueuedBatchesAreFetchedTogether(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Child> children = session.createQuery( "from Child", Child.class ).getResultList();
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+					for ( Child child : children ) {
+						assertThat( Hibernate.isInitialized( child.getParent() ) ).isFalse();
+						assertThat( Hibernate.isInitialized( child.getNicknames() ) ).isFalse();
+					}
+
+					// the batch of parents, then the queued batches of schools and nicknames
+					assertThat( children.get( 0 ).getParent().getName() ).startsWith( "parent" );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+					for ( Child child : children ) {
+						assertThat( Hibernate.isInitialized( child.getNicknames() ) ).isTrue();
+					}
+
+					for ( Child child : children ) {
+						assertThat( child.getParent().getName() ).startsWith( "parent" );
+						assertThat( child.getSchool().getName() ).startsWith( "school" );
+						assertThat( child.getNicknames() ).hasSize( 1 );
+					}
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+				}
+		);
+	}
+
+	@Test
+	public void testSingleLoadDoesNotFetchQueuedBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final Child child = session.find( Child.class, 1 );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+					// the only queued parent is loaded on its own
+					assertThat( child.getParent().getName() ).isEqualTo( "parent 1" );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+					assertThat( Hibernate.isInitialized( child.getSchool() ) ).isFalse();
+					assertThat( Hibernate.isInitialized( child.getNicknames() ) ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testBatchesQueuedByOtherResultsAreNotFetched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final Child child = session.createQuery( "from Child where id = 1", Child.class )
+							.getSingleResult();
+					final Parent parent = session.getReference( Parent.class, 2 );
+					session.getReference( Parent.class, 3 );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+					// the batch of parents is not triggered by the query result
+					assertThat( parent.getName() ).isEqualTo( "parent 2" );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+					assertThat( Hibernate.isInitialized( child.getParent() ) ).isTrue();
+					assertThat( Hibernate.isInitialized( child.getSchool() ) ).isFalse();
+					assertThat( Hibernate.isInitialized( child.getNicknames() ) ).isFalse();
+				}
+		);
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "queued_roles_child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private School school;
+
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent, School school, String nickname) {
+			this.id = id;
+			this.parent = parent;
+			this.school = school;
+			this.nicknames.add( nickname );
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+
+		public School getSchool() {
+			return school;
+		}
+
+		public Set<String> getNicknames() {
+			return nicknames;
+		}
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "queued_roles_parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "School")
+	@Table(name = "queued_roles_school")
+	public static class School {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public School() {
+		}
+
+		public School(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
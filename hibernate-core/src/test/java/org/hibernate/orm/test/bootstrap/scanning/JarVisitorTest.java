@@ -33,7 +33,10 @@ import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.spi.ArchiveContext;
 import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.dialect.H2Dialect;
 import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
 import org.hibernate.orm.test.jpa.pack.explodedpar.Carpet;
@@ -43,6 +46,8 @@ import org.hibernate.testing.orm.junit.RequiresDialect;
 
 import org.junit.jupiter.api.Test;
 
+import org.jboss.jandex.Index;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -115,6 +120,53 @@ public class JarVisitorTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testClassCategorizedFromJandexIndex() throws Exception {
+		final ScanResultCollector collector = new ScanResultCollector(
+				new ScanEnvironmentImpl( null ),
+				new StandardScanOptions(),
+				new StandardScanParameters( Index.of( org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer.class ) )
+		);
+		final ArchiveEntry entry = new ArchiveEntry() {
+			@Override
+			public String getName() {
+				return getNameWithinArchive();
+			}
+
+			@Override
+			public String getNameWithinArchive() {
+				return "org/hibernate/orm/test/jpa/pack/defaultpar/ApplicationServer.class";
+			}
+
+			@Override
+			public InputStreamAccess getStreamAccess() {
+				return new InputStreamAccess() {
+					@Override
+					public String getStreamName() {
+						return getName();
+					}
+
+					@Override
+					public InputStream accessInputStream() {
+						throw new AssertionError( "Indexed class file should not be read" );
+					}
+				};
+			}
+		};
+
+		final ArchiveContext context = new AbstractScannerImpl.ArchiveContextImpl( true, collector );
+		context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
+
+		final ScanResult result = collector.toScanResult();
+		assertEquals( 1, result.getLocatedClasses().size() );
+		final ClassDescriptor classDescriptor = result.getLocatedClasses().iterator().next();
+		assertEquals(
+				org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer.class.getName(),
+				classDescriptor.getName()
+		);
+		assertEquals( ClassDescriptor.Categorization.MODEL, classDescriptor.getCategorization() );
+	}
+
 	@Test
 	public void testInputStreamZippedJar() throws Exception {
 		File defaultPar = buildDefaultPar();
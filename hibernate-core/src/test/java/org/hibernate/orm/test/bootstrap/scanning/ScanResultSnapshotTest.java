@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshot;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+public class ScanResultSnapshotTest {
+	private static final String SNAPSHOT_RESOURCE_NAME = "META-INF/hibernate-scan.snapshot";
+
+	private static final String PASTA_ENTRY_NAME = Pasta.class.getName().replace( '.', '/' ) + ".class";
+
+	@Test
+	public void testRoundTrip(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+
+		// the snapshot is taken against another directory than the one used at runtime
+		final byte[] snapshot = snapshot( buildDir, new StandardScanOptions() );
+
+		final ScanResult scanResult = read( runtimeDir, new StandardScanOptions(), snapshot );
+		assertNotNull( scanResult );
+
+		assertEquals( 1, scanResult.getLocatedClasses().size() );
+		final ClassDescriptor classDescriptor = scanResult.getLocatedClasses().iterator().next();
+		assertEquals( Pasta.class.getName(), classDescriptor.getName() );
+		assertEquals( ClassDescriptor.Categorization.MODEL, classDescriptor.getCategorization() );
+		try ( InputStream inputStream = classDescriptor.getStreamAccess().accessInputStream() ) {
+			assertEquals( Files.size( runtimeDir.toPath().resolve( PASTA_ENTRY_NAME ) ), inputStream.readAllBytes().length );
+		}
+
+		assertEquals( 1, scanResult.getLocatedMappingFiles().size() );
+		assertEquals( "META-INF/orm.xml", scanResult.getLocatedMappingFiles().iterator().next().getName() );
+	}
+
+	@Test
+	public void testChangedMappingFileIsStale(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings></entity-mappings>" );
+
+		assertNull( read( runtimeDir, new StandardScanOptions(), snapshot( buildDir, new StandardScanOptions() ) ) );
+	}
+
+	@Test
+	public void testAddedMappingFileIsStale(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+		write( runtimeDir.toPath().resolve( "pasta.hbm.xml" ), "<hibernate-mapping/>" );
+
+		assertNull( read( runtimeDir, new StandardScanOptions(), snapshot( buildDir, new StandardScanOptions() ) ) );
+	}
+
+	@Test
+	public void testAddedOtherFileIsIgnored(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+		write( runtimeDir.toPath().resolve( "META-INF/MANIFEST.MF" ), "Manifest-Version: 1.0" );
+
+		assertNotNull( read( runtimeDir, new StandardScanOptions(), snapshot( buildDir, new StandardScanOptions() ) ) );
+	}
+
+	@Test
+	public void testChangedOtherFileIsIgnored(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		write( buildDir.toPath().resolve( "META-INF/MANIFEST.MF" ), "Manifest-Version: 1.0" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+		write( runtimeDir.toPath().resolve( "META-INF/MANIFEST.MF" ), "Manifest-Version: 2.0" );
+
+		assertNotNull( read( runtimeDir, new StandardScanOptions(), snapshot( buildDir, new StandardScanOptions() ) ) );
+	}
+
+	@Test
+	public void testChangedListedMappingFileIsStale(@TempDir File buildDir, @TempDir File runtimeDir) throws Exception {
+		final List<String> mappingFiles = Collections.singletonList( "META-INF/mappings.xml" );
+		createArchive( buildDir, "<entity-mappings/>" );
+		write( buildDir.toPath().resolve( "META-INF/mappings.xml" ), "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+		write( runtimeDir.toPath().resolve( "META-INF/mappings.xml" ), "<entity-mappings></entity-mappings>" );
+
+		final byte[] snapshot = snapshot( buildDir, Collections.emptyList(), new StandardScanOptions(), mappingFiles );
+		assertNull( read( runtimeDir, Collections.emptyList(), new StandardScanOptions(), mappingFiles, snapshot ) );
+	}
+
+	@Test
+	public void testNonRootArchive(
+			@TempDir File buildDir,
+			@TempDir File buildJarDir,
+			@TempDir File runtimeDir,
+			@TempDir File runtimeJarDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+		createArchive( buildJarDir, "<entity-mappings/>" );
+		createArchive( runtimeDir, "<entity-mappings/>" );
+		createArchive( runtimeJarDir, "<entity-mappings/>" );
+
+		final byte[] snapshot = snapshot(
+				buildDir,
+				Collections.singletonList( buildJarDir ),
+				new StandardScanOptions(),
+				Collections.emptyList()
+		);
+		final ScanResult scanResult = read(
+				runtimeDir,
+				Collections.singletonList( runtimeJarDir ),
+				new StandardScanOptions(),
+				Collections.emptyList(),
+				snapshot
+		);
+		assertNotNull( scanResult );
+		assertEquals( 2, scanResult.getLocatedMappingFiles().size() );
+
+		write( runtimeJarDir.toPath().resolve( "META-INF/orm.xml" ), "<entity-mappings></entity-mappings>" );
+		assertNull( read(
+				runtimeDir,
+				Collections.singletonList( runtimeJarDir ),
+				new StandardScanOptions(),
+				Collections.emptyList(),
+				snapshot
+		) );
+	}
+
+	@Test
+	public void testDifferentScanOptionsAreStale(@TempDir File buildDir) throws Exception {
+		createArchive( buildDir, "<entity-mappings/>" );
+
+		final byte[] snapshot = snapshot( buildDir, new StandardScanOptions() );
+		assertNull( read( buildDir, new StandardScanOptions( "hbm", false ), snapshot ) );
+	}
+
+	private static void createArchive(File dir, String ormXml) throws Exception {
+		try ( InputStream inputStream = Pasta.class.getClassLoader().getResourceAsStream( PASTA_ENTRY_NAME ) ) {
+			final Path classFile = dir.toPath().resolve( PASTA_ENTRY_NAME );
+			Files.createDirectories( classFile.getParent() );
+			Files.write( classFile, inputStream.readAllBytes() );
+		}
+		write( dir.toPath().resolve( "META-INF/orm.xml" ), ormXml );
+	}
+
+	private static void write(Path file, String content) throws Exception {
+		Files.createDirectories( file.getParent() );
+		Files.write( file, content.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static byte[] snapshot(File dir, ScanOptions options) throws Exception {
+		return snapshot( dir, Collections.emptyList(), options, Collections.emptyList() );
+	}
+
+	private static byte[] snapshot(
+			File dir,
+			List<File> nonRootDirs,
+			ScanOptions options,
+			List<String> mappingFiles) throws Exception {
+		final List<ArchiveDescriptor> nonRootArchives = new ArrayList<>();
+		for ( File nonRootDir : nonRootDirs ) {
+			nonRootArchives.add(
+					StandardArchiveDescriptorFactory.INSTANCE.buildArchiveDescriptor( nonRootDir.toURI().toURL() )
+			);
+		}
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ScanResultSnapshot.write(
+				StandardArchiveDescriptorFactory.INSTANCE.buildArchiveDescriptor( dir.toURI().toURL() ),
+				nonRootArchives,
+				options,
+				mappingFiles,
+				SNAPSHOT_RESOURCE_NAME,
+				outputStream
+		);
+		return outputStream.toByteArray();
+	}
+
+	private static ScanResult read(File dir, ScanOptions options, byte[] snapshot) throws Exception {
+		return read( dir, Collections.emptyList(), options, Collections.emptyList(), snapshot );
+	}
+
+	private static ScanResult read(
+			File dir,
+			List<File> nonRootDirs,
+			ScanOptions options,
+			List<String> mappingFiles,
+			byte[] snapshot) throws Exception {
+		final List<URL> nonRootUrls = new ArrayList<>();
+		for ( File nonRootDir : nonRootDirs ) {
+			nonRootUrls.add( nonRootDir.toURI().toURL() );
+		}
+		final ScanEnvironment environment = Mockito.mock( ScanEnvironment.class );
+		when( environment.getRootUrl() ).thenReturn( dir.toURI().toURL() );
+		when( environment.getNonRootUrls() ).thenReturn( nonRootUrls );
+		when( environment.getExplicitlyListedClassNames() ).thenReturn( Collections.emptyList() );
+		when( environment.getExplicitlyListedMappingFiles() ).thenReturn( mappingFiles );
+
+		return ScanResultSnapshot.read(
+				environment,
+				options,
+				StandardArchiveDescriptorFactory.INSTANCE,
+				new ByteArrayInputStream( snapshot )
+		);
+	}
+}
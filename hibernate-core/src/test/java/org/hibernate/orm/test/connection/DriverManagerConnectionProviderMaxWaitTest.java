@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests waiting for a connection to be released when the built-in pool has reached its maximum size
+ */
+public class DriverManagerConnectionProviderMaxWaitTest {
+
+	@Test
+	public void testWaitForReleasedConnection() throws Exception {
+		final DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( 10_000 );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			final CompletableFuture<Void> release = CompletableFuture.runAsync( () -> {
+				try {
+					Thread.sleep( 200 );
+					connectionProvider.closeConnection( connection );
+				}
+				catch (Exception e) {
+					throw new RuntimeException( e );
+				}
+			} );
+
+			final Connection released = connectionProvider.getConnection();
+			assertThat( released ).isSameAs( connection );
+			release.get( 10, TimeUnit.SECONDS );
+			connectionProvider.closeConnection( released );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testWaitTimesOut() throws Exception {
+		final DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( 100 );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			assertThrows( HibernateException.class, connectionProvider::getConnection );
+			connectionProvider.closeConnection( connection );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testNoWaitByDefault() throws Exception {
+		final DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( null );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			assertThrows( HibernateException.class, connectionProvider::getConnection );
+			connectionProvider.closeConnection( connection );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	private static DriverManagerConnectionProviderImpl buildConnectionProvider(Integer maxWait) {
+		final Map<String, Object> settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, "1" );
+		if ( maxWait != null ) {
+			settings.put( DriverManagerConnectionProviderImpl.MAX_WAIT, maxWait.toString() );
+		}
+		final DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( settings );
+		return connectionProvider;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Startable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the lifecycle and the settings of a read-only connection provider given as a class name
+ */
+public class ReadOnlyConnectionProviderClassNameTest {
+	private static final String READ_ONLY_PREFIX = AvailableSettings.READ_ONLY_CONNECTION_CONFIG_PREFIX + '.';
+
+	@AfterEach
+	public void forgetProvider() {
+		TrackingConnectionProvider.instance = null;
+	}
+
+	@Test
+	public void testProviderManagedByServiceRegistry() {
+		final Properties properties = Environment.getProperties();
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.READ_ONLY_CONNECTION_PROVIDER, TrackingConnectionProvider.class.getName() )
+				.applySetting( READ_ONLY_PREFIX + "connection.driver_class", properties.get( AvailableSettings.DRIVER ) )
+				.applySetting( READ_ONLY_PREFIX + "connection.url", properties.get( AvailableSettings.URL ) )
+				.applySetting( READ_ONLY_PREFIX + "connection.username", properties.get( AvailableSettings.USER ) )
+				.applySetting( READ_ONLY_PREFIX + "connection.password", properties.get( AvailableSettings.PASS ) )
+				.applySetting( READ_ONLY_PREFIX + "connection.pool_size", "2" )
+				.build();
+
+		TrackingConnectionProvider provider = null;
+		try {
+			try ( SessionFactory sessionFactory = new MetadataSources( ssr )
+					.addAnnotatedClass( ReadOnlyConnectionProviderTest.Book.class )
+					.buildMetadata()
+					.buildSessionFactory() ) {
+				provider = TrackingConnectionProvider.instance;
+				assertThat( provider ).isNotNull();
+				assertThat( provider.servicesInjected ).isTrue();
+
+				// only the settings of the read-only provider, without their prefix
+				assertThat( provider.configurationValues )
+						.containsEntry( AvailableSettings.URL, properties.get( AvailableSettings.URL ) )
+						.containsEntry( AvailableSettings.POOL_SIZE, "2" )
+						.doesNotContainKey( AvailableSettings.READ_ONLY_CONNECTION_PROVIDER );
+				assertThat( provider.configurationValues.keySet() )
+						.allMatch( key -> key.startsWith( AvailableSettings.CONNECTION_PREFIX + '.' ) );
+				assertThat( provider.started ).isTrue();
+
+				try ( Session session = sessionFactory.openSession() ) {
+					session.setDefaultReadOnly( true );
+					session.doWork( connection -> assertThat( connection.isClosed() ).isFalse() );
+				}
+				assertThat( provider.acquisitions ).isEqualTo( 1 );
+				assertThat( provider.stopped ).isFalse();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+		assertThat( provider.stopped ).isTrue();
+	}
+
+	public static class TrackingConnectionProvider extends DriverManagerConnectionProviderImpl implements Startable {
+		private static TrackingConnectionProvider instance;
+
+		private boolean servicesInjected;
+		private Map<String, Object> configurationValues;
+		private boolean started;
+		private int acquisitions;
+		private boolean stopped;
+
+		public TrackingConnectionProvider() {
+			instance = this;
+		}
+
+		@Override
+		public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+			servicesInjected = true;
+			super.injectServices( serviceRegistry );
+		}
+
+		@Override
+		public void configure(Map<String, Object> configurationValues) {
+			this.configurationValues = configurationValues;
+			super.configure( configurationValues );
+		}
+
+		@Override
+		public void start() {
+			started = true;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			acquisitions++;
+			return super.getConnection();
+		}
+
+		@Override
+		public void stop() {
+			stopped = true;
+			super.stop();
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests routing the connections of sessions which are read-only by default to
+ * the read-only connection provider
+ */
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.READ_ONLY_CONNECTION_PROVIDER,
+				provider = ReadOnlyConnectionProviderTest.ReadOnlyConnectionProviderProvider.class
+		)
+)
+@DomainModel(annotatedClasses = ReadOnlyConnectionProviderTest.Book.class)
+@SessionFactory
+public class ReadOnlyConnectionProviderTest {
+
+	private static CountingConnectionProvider readOnlyConnectionProvider;
+
+	@AfterAll
+	public static void forgetReadOnlyConnectionProvider() {
+		readOnlyConnectionProvider = null;
+	}
+
+	@BeforeEach
+	public void resetCount() {
+		readOnlyConnectionProvider.acquisitions.set( 0 );
+	}
+
+	@Test
+	public void testReadWriteSessionUsesPrimary(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ) ).isNotNull() );
+		assertThat( readOnlyConnectionProvider.acquisitions.get() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 1 ) ) );
+	}
+
+	@Test
+	public void testReadOnlySessionUsesReadOnlyProvider(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 2, "Java Persistence with Hibernate" ) ) );
+
+		scope.inSession(
+				session -> {
+					session.setDefaultReadOnly( true );
+					scope.inTransaction(
+							session,
+							s -> assertThat( s.createQuery( "from Book", Book.class ).getResultList() ).hasSize( 1 )
+					);
+				}
+		);
+		assertThat( readOnlyConnectionProvider.acquisitions.get() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 2 ) ) );
+		assertThat( readOnlyConnectionProvider.acquisitions.get() ).isEqualTo( 1 );
+	}
+
+	public static class ReadOnlyConnectionProviderProvider
+			implements SettingProvider.Provider<CountingConnectionProvider> {
+		@Override
+		public CountingConnectionProvider getSetting() {
+			readOnlyConnectionProvider = new CountingConnectionProvider();
+			return readOnlyConnectionProvider;
+		}
+	}
+
+	public static class CountingConnectionProvider extends DriverManagerConnectionProviderImpl {
+		private final AtomicInteger acquisitions = new AtomicInteger();
+
+		@Override
+		public void configure(Map<String, Object> configurationValues) {
+			// the replica is the primary database in this test
+			super.configure( PropertiesHelper.map( Environment.getProperties() ) );
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			acquisitions.incrementAndGet();
+			return super.getConnection();
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.hibernate.type.descriptor.java.DataHelper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link InputStream} and {@link Reader} attributes, which are streamed
+ * to and from {@code BLOB} and {@code CLOB} columns
+ */
+@DomainModel(annotatedClasses = StreamingLobTest.Document.class)
+@SessionFactory
+public class StreamingLobTest {
+
+	private static final int LENGTH = 1024 * 1024;
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStreams(SessionFactoryScope scope) {
+		final byte[] bytes = new byte[LENGTH];
+		Arrays.fill( bytes, (byte) 'x' );
+		final char[] chars = new char[LENGTH];
+		Arrays.fill( chars, 'y' );
+		final String text = new String( chars );
+
+		scope.inTransaction(
+				session -> session.persist(
+						new Document( 1, new ByteArrayInputStream( bytes ), new StringReader( text ) )
+				)
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1 );
+					// the streams must be consumed while the locators are valid
+					assertThat( DataHelper.extractBytes( document.getContent() ) ).isEqualTo( bytes );
+					assertThat( DataHelper.extractString( document.getText() ) ).isEqualTo( text );
+				}
+		);
+	}
+
+	@Test
+	public void testNullStreams(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Document( 2, null, null ) ) );
+
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 2 );
+					assertThat( document.getContent() ).isNull();
+					assertThat( document.getText() ).isNull();
+				}
+		);
+	}
+
+	@Test
+	public void testReplaceStream(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist(
+						new Document( 3, new ByteArrayInputStream( new byte[] { 1, 2, 3 } ), new StringReader( "abc" ) )
+				)
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 3 );
+					document.setContent( new ByteArrayInputStream( new byte[] { 4, 5 } ) );
+					document.setText( new StringReader( "de" ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 3 );
+					assertThat( DataHelper.extractBytes( document.getContent() ) ).containsExactly( 4, 5 );
+					assertThat( DataHelper.extractString( document.getText() ) ).isEqualTo( "de" );
+				}
+		);
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private InputStream content;
+
+		private Reader text;
+
+		public Document() {
+		}
+
+		public Document(Integer id, InputStream content, Reader text) {
+			this.id = id;
+			this.content = content;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public InputStream getContent() {
+			return content;
+		}
+
+		public void setContent(InputStream content) {
+			this.content = content;
+		}
+
+		public Reader getText() {
+			return text;
+		}
+
+		public void setText(Reader text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.basic;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLCastingJsonJdbcType;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.JavaTypeBasicAdaptor;
+import org.hibernate.type.descriptor.jdbc.JsonAsStringJdbcType;
+import org.hibernate.type.format.FormatMapper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that JSON values are parsed from the character stream of CLOB columns,
+ * and from strings otherwise.
+ */
+@DomainModel
+@SessionFactory
+public abstract class JsonReaderExtractionTests {
+
+	@ServiceRegistry(settings = @Setting(name = AvailableSettings.JSON_FORMAT_MAPPER, value = "jsonb"))
+	public static class JsonB extends JsonReaderExtractionTests {
+	}
+
+	@ServiceRegistry(settings = @Setting(name = AvailableSettings.JSON_FORMAT_MAPPER, value = "jackson"))
+	public static class Jackson extends JsonReaderExtractionTests {
+	}
+
+	private static final String JSON = "{\"name\":\"ABC\"}";
+
+	@Test
+	public void testFormatMapperFromReader(SessionFactoryScope scope) {
+		scope.inSession(
+				(session) -> {
+					final FormatMapper formatMapper = scope.getSessionFactory()
+							.getFastSessionServices()
+							.getJsonFormatMapper();
+					final ClosingReader reader = new ClosingReader( JSON );
+
+					final Map<?, ?> map = formatMapper.fromReader( reader, mapJavaType(), session );
+					assertThat( map, is( Map.of( "name", "ABC" ) ) );
+					assertThat( reader.closed, is( true ) );
+				}
+		);
+	}
+
+	@Test
+	public void testClobJdbcTypeExtractsThroughReader(SessionFactoryScope scope) throws SQLException {
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getCharacterStream( 1 ) ).thenReturn( new StringReader( JSON ) );
+
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			final Map<?, ?> map = JsonAsStringJdbcType.CLOB_INSTANCE.getExtractor( mapJavaType() )
+					.extract( resultSet, 1, session );
+			assertThat( map, is( Map.of( "name", "ABC" ) ) );
+		}
+		verify( resultSet, never() ).getString( anyInt() );
+	}
+
+	@Test
+	public void testCastingJdbcTypeExtractsStrings(SessionFactoryScope scope) throws SQLException {
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getString( 1 ) ).thenReturn( JSON );
+
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			// the character stream of MySQL Connector/J wraps the materialized string
+			final Map<?, ?> map = MySQLCastingJsonJdbcType.INSTANCE.getExtractor( mapJavaType() )
+					.extract( resultSet, 1, session );
+			assertThat( map, is( Map.of( "name", "ABC" ) ) );
+		}
+		verify( resultSet, never() ).getCharacterStream( anyInt() );
+	}
+
+	@Test
+	public void testClobJdbcTypeExtractsStringsThroughReader(SessionFactoryScope scope) throws SQLException {
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getCharacterStream( 1 ) ).thenReturn( new StringReader( JSON ) );
+
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			final String json = JsonAsStringJdbcType.CLOB_INSTANCE.getExtractor( new JavaTypeBasicAdaptor<>( String.class ) )
+					.extract( resultSet, 1, session );
+			assertThat( json, is( JSON ) );
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static JavaType<Map<?, ?>> mapJavaType() {
+		return (JavaType) new JavaTypeBasicAdaptor<>( Map.class );
+	}
+
+	private static class ClosingReader extends StringReader {
+		private boolean closed;
+
+		public ClosingReader(String s) {
+			super( s );
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cache.internal.NoCachingRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.NaturalIdResolutionCache;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests natural-id resolutions shared between sessions without a second-level cache
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE, value = "100" )
+)
+@DomainModel( annotatedClasses = NaturalIdResolutionCacheTests.Product.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class NaturalIdResolutionCacheTests {
+
+	@ServiceRegistry(
+			settings = {
+					@Setting( name = AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE, value = "100" ),
+					@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "false" )
+			}
+	)
+	public static class WithoutSecondLevelCache extends NaturalIdResolutionCacheTests {
+		@Test
+		public void testNoRegionFactory(SessionFactoryScope scope) {
+			assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+					.isSameAs( NoCachingRegionFactory.INSTANCE );
+		}
+	}
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Product( 1, "abc", "the product" ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMapping(SessionFactoryScope scope) {
+		final EntityPersister entityPersister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		assertThat( entityPersister.getNaturalIdMapping().getCacheAccess() ).isNull();
+		assertThat( NaturalIdResolutionCache.of( entityPersister.getNaturalIdMapping() ) ).isNotNull();
+	}
+
+	@Test
+	public void testResolutionSharedBetweenSessions(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				(session) -> {
+					final Product product = session.bySimpleNaturalId( Product.class ).load( "abc" );
+					assertThat( product.getId() ).isEqualTo( 1 );
+				}
+		);
+
+		statementInspector.clear();
+		scope.inTransaction(
+				(session) -> {
+					final Product product = session.bySimpleNaturalId( Product.class ).getReference( "abc" );
+					assertThat( session.getIdentifier( product ) ).isEqualTo( 1 );
+				}
+		);
+		statementInspector.assertExecutedCount( 0 );
+	}
+
+	@Test
+	public void testResolutionEvictedOnDelete(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction(
+				(session) -> {
+					final Product product = session.bySimpleNaturalId( Product.class ).load( "abc" );
+					session.remove( product );
+				}
+		);
+		scope.inTransaction( (session) -> session.persist( new Product( 2, "abc", "the new product" ) ) );
+
+		statementInspector.clear();
+		scope.inTransaction(
+				(session) -> {
+					final Product product = session.bySimpleNaturalId( Product.class ).load( "abc" );
+					assertThat( product.getId() ).isEqualTo( 2 );
+				}
+		);
+		statementInspector.assertExecutedCount( 1 );
+	}
+
+	@Test
+	public void testResolutionEvictedOnBulkDelete(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					final Product product = session.bySimpleNaturalId( Product.class ).load( "abc" );
+					assertThat( product.getId() ).isEqualTo( 1 );
+				}
+		);
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+
+		scope.inTransaction(
+				(session) -> assertThat( session.bySimpleNaturalId( Product.class ).load( "abc" ) ).isNull()
+		);
+	}
+
+	@Test
+	public void testResolutionLoadedBeforeInvalidationNotPut(SessionFactoryScope scope) {
+		final EntityPersister entityPersister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		final NaturalIdResolutionCache resolutionCache = NaturalIdResolutionCache.of( entityPersister.getNaturalIdMapping() );
+
+		scope.inSession(
+				(session) -> {
+					final Object key = resolutionCache.generateKey( "xyz", entityPersister, session );
+					final long loadTimestamp = NaturalIdResolutionCache.nextTimestamp();
+
+					resolutionCache.invalidate( key );
+					assertThat( resolutionCache.putFromLoad( key, 3, loadTimestamp ) ).isFalse();
+					assertThat( resolutionCache.get( key ) ).isNull();
+
+					resolutionCache.invalidateAll();
+					assertThat( resolutionCache.putFromLoad( key, 3, loadTimestamp ) ).isFalse();
+					assertThat( resolutionCache.get( key ) ).isNull();
+
+					// a load which started after the invalidations
+					assertThat( resolutionCache.putFromLoad( key, 3, Long.MAX_VALUE ) ).isTrue();
+					assertThat( resolutionCache.get( key ) ).isEqualTo( 3 );
+				}
+		);
+	}
+
+	@Entity( name = "Product" )
+	@Table( name = "natural_id_shared_products" )
+	public static class Product {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String sku;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String sku, String name) {
+			this.id = id;
+			this.sku = sku;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getSku() {
+			return sku;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
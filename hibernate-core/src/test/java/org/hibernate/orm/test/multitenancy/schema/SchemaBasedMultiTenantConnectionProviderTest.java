@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.multitenancy.schema;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.AbstractSchemaBasedMultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchemaBasedMultiTenantConnectionProviderTest {
+
+	@Test
+	public void testConnectionIsKeptAsideForSchema() throws Exception {
+		final Connection connection = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 10 );
+
+		assertSame( connection, provider.getConnection( "jboss" ) );
+		provider.releaseConnection( "jboss", connection );
+		assertSame( connection, provider.getConnection( "jboss" ) );
+		provider.releaseConnection( "jboss", connection );
+
+		verify( connectionProvider, times( 1 ) ).getConnection();
+		verify( connection, times( 1 ) ).setSchema( "jboss" );
+		verify( connectionProvider, never() ).closeConnection( connection );
+
+		provider.stop();
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection );
+	}
+
+	@Test
+	public void testConnectionKeptAsideIsSwitchedToOtherSchema() throws Exception {
+		final Connection connection = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 10 );
+
+		provider.releaseConnection( "jboss", provider.getConnection( "jboss" ) );
+		assertSame( connection, provider.getConnection( "acme" ) );
+
+		verify( connectionProvider, times( 1 ) ).getConnection();
+		verify( connection, times( 1 ) ).setSchema( "jboss" );
+		verify( connection, times( 1 ) ).setSchema( "acme" );
+	}
+
+	@Test
+	public void testNoConnectionKeptAside() throws Exception {
+		final Connection connection = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 0 );
+
+		provider.releaseConnection( "jboss", provider.getConnection( "jboss" ) );
+		provider.releaseConnection( "jboss", provider.getConnection( "jboss" ) );
+
+		verify( connectionProvider, times( 2 ) ).getConnection();
+		verify( connectionProvider, times( 2 ) ).closeConnection( connection );
+		verify( connection, times( 2 ) ).setSchema( "jboss" );
+	}
+
+	@Test
+	public void testConnectionsKeptAsideAreBoundedByPoolSize() throws Exception {
+		final Connection connection1 = Mockito.mock( Connection.class );
+		final Connection connection2 = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection1, connection2 );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 10 );
+		// a quarter of the pool size
+		provider.configure( Map.of( AvailableSettings.POOL_SIZE, "4" ) );
+
+		final Connection jbossConnection = provider.getConnection( "jboss" );
+		final Connection acmeConnection = provider.getConnection( "acme" );
+		provider.releaseConnection( "jboss", jbossConnection );
+		provider.releaseConnection( "acme", acmeConnection );
+
+		verify( connectionProvider, never() ).closeConnection( connection1 );
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection2 );
+	}
+
+	@Test
+	public void testConnectionKeptAsideIsHandedBackForAnyConnection() throws Exception {
+		final Connection connection = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 10 );
+
+		provider.releaseConnection( "jboss", provider.getConnection( "jboss" ) );
+		verify( connectionProvider, never() ).closeConnection( connection );
+
+		assertSame( connection, provider.getAnyConnection() );
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection );
+		verify( connectionProvider, times( 2 ) ).getConnection();
+	}
+
+	@Test
+	public void testExpiredConnectionIsHandedBackOnRelease() throws Exception {
+		final Connection connection1 = Mockito.mock( Connection.class );
+		final Connection connection2 = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection1, connection2 );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider, 10, 0L );
+
+		final Connection jbossConnection = provider.getConnection( "jboss" );
+		final Connection acmeConnection = provider.getConnection( "acme" );
+		provider.releaseConnection( "jboss", jbossConnection );
+		provider.time++;
+		provider.releaseConnection( "acme", acmeConnection );
+
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection1 );
+		verify( connectionProvider, never() ).closeConnection( connection2 );
+	}
+
+	@Test
+	public void testConnectionsKeptAsideAreSizedFromPoolSize() throws Exception {
+		final Connection connection1 = Mockito.mock( Connection.class );
+		final Connection connection2 = Mockito.mock( Connection.class );
+		final Connection connection3 = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection1, connection2, connection3 );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider );
+		provider.configure( Map.of( AvailableSettings.POOL_SIZE, "12" ) );
+
+		final Connection jbossConnection = provider.getConnection( "jboss" );
+		final Connection acmeConnection = provider.getConnection( "acme" );
+		final Connection initechConnection = provider.getConnection( "initech" );
+		provider.releaseConnection( "jboss", jbossConnection );
+		provider.releaseConnection( "acme", acmeConnection );
+		provider.releaseConnection( "initech", initechConnection );
+
+		// more than the default maximum, as many as a quarter of the pool size
+		verify( connectionProvider, never() ).closeConnection( Mockito.any() );
+	}
+
+	@Test
+	public void testConnectionsKeptAsideAreConfigured() throws Exception {
+		final Connection connection1 = Mockito.mock( Connection.class );
+		final Connection connection2 = Mockito.mock( Connection.class );
+		final ConnectionProvider connectionProvider = Mockito.mock( ConnectionProvider.class );
+		when( connectionProvider.getConnection() ).thenReturn( connection1, connection2 );
+
+		final TestingProvider provider = new TestingProvider( connectionProvider );
+		provider.configure( Map.of(
+				AvailableSettings.MULTI_TENANT_MAX_IDLE_CONNECTIONS, "1",
+				AvailableSettings.MULTI_TENANT_MAX_IDLE_TIME, "100"
+		) );
+
+		final Connection jbossConnection = provider.getConnection( "jboss" );
+		final Connection acmeConnection = provider.getConnection( "acme" );
+		provider.releaseConnection( "jboss", jbossConnection );
+		provider.releaseConnection( "acme", acmeConnection );
+		verify( connectionProvider, never() ).closeConnection( connection1 );
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection2 );
+
+		// kept aside for the maximum idle time
+		provider.time += 100;
+		assertSame( connection1, provider.getConnection( "jboss" ) );
+		provider.releaseConnection( "jboss", connection1 );
+		verify( connectionProvider, never() ).closeConnection( connection1 );
+
+		// and no longer
+		provider.time += 101;
+		provider.getConnection( "acme" );
+		verify( connectionProvider, times( 1 ) ).closeConnection( connection1 );
+	}
+
+	private static class TestingProvider extends AbstractSchemaBasedMultiTenantConnectionProvider {
+		private final ConnectionProvider connectionProvider;
+		private final Integer maxIdleConnections;
+		private final Long maxIdleTime;
+		private long time;
+
+		private TestingProvider(ConnectionProvider connectionProvider) {
+			this( connectionProvider, null, null );
+		}
+
+		private TestingProvider(ConnectionProvider connectionProvider, Integer maxIdleConnections) {
+			this( connectionProvider, maxIdleConnections, null );
+		}
+
+		private TestingProvider(ConnectionProvider connectionProvider, Integer maxIdleConnections, Long maxIdleTime) {
+			this.connectionProvider = connectionProvider;
+			this.maxIdleConnections = maxIdleConnections;
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		@Override
+		protected ConnectionProvider getConnectionProvider() {
+			return connectionProvider;
+		}
+
+		@Override
+		protected int getMaxIdleConnections() {
+			return maxIdleConnections == null ? super.getMaxIdleConnections() : maxIdleConnections;
+		}
+
+		@Override
+		protected long getMaxIdleTime() {
+			return maxIdleTime == null ? super.getMaxIdleTime() : maxIdleTime;
+		}
+
+		@Override
+		protected long currentTimeMillis() {
+			return time;
+		}
+	}
+}
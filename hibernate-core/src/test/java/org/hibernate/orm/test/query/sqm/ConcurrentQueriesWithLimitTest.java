@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.sqm;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.query.Query;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executes the same query with different limits concurrently, so that the variants of its
+ * interpretation are built and looked up concurrently.
+ */
+@DomainModel(annotatedClasses = ConcurrentQueriesWithLimitTest.SimpleEntity.class)
+@SessionFactory
+public class ConcurrentQueriesWithLimitTest {
+
+	private static final String QUERY_STRING = "select e.id from limited e order by e.id";
+	private static final int EXECUTIONS = 200;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final SimpleEntity entity = new SimpleEntity();
+				entity.id = i;
+				session.persist( entity );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete limited" ).executeUpdate() );
+	}
+
+	@Test
+	public void testConcurrentLimits(SessionFactoryScope scope) {
+		final ExecutorService executorService = Executors.newFixedThreadPool( 4 );
+		try {
+			@SuppressWarnings("unchecked")
+			final CompletableFuture<List<Integer>>[] results = new CompletableFuture[EXECUTIONS];
+			for ( int i = 0; i < EXECUTIONS; i++ ) {
+				final int index = i;
+				results[i] = CompletableFuture.supplyAsync( () -> executeQuery( scope, index ), executorService );
+			}
+			for ( int i = 0; i < EXECUTIONS; i++ ) {
+				assertThat( results[i].join() ).isEqualTo( expectedResult( i ) );
+			}
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	private static List<Integer> executeQuery(SessionFactoryScope scope, int index) {
+		return scope.fromSession( session -> {
+			final Query<Integer> query = session.createQuery( QUERY_STRING, Integer.class );
+			switch ( index % 4 ) {
+				case 1:
+					query.setMaxResults( 3 );
+					break;
+				case 2:
+					query.setFirstResult( 8 );
+					break;
+				case 3:
+					query.setFirstResult( 2 ).setMaxResults( 3 );
+					break;
+			}
+			return query.list();
+		} );
+	}
+
+	private static List<Integer> expectedResult(int index) {
+		switch ( index % 4 ) {
+			case 1:
+				return List.of( 0, 1, 2 );
+			case 2:
+				return List.of( 8, 9 );
+			case 3:
+				return List.of( 2, 3, 4 );
+			default:
+				return List.of( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+		}
+	}
+
+	@Entity(name = "limited")
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+	}
+}
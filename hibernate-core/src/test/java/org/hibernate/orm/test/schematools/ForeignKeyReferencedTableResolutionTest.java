@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.schematools;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator;
+import org.hibernate.orm.test.util.DdlTransactionIsolatorTestingImpl;
+import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
+import org.hibernate.tool.schema.extract.internal.DatabaseInformationImpl;
+import org.hibernate.tool.schema.extract.spi.ForeignKeyInformation;
+import org.hibernate.tool.schema.extract.spi.NameSpaceTablesInformation;
+import org.hibernate.tool.schema.extract.spi.TableInformation;
+import org.hibernate.tool.schema.spi.SchemaManagementTool;
+
+import org.hibernate.testing.orm.junit.BaseSessionFactoryFunctionalTest;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the tables referenced by foreign keys are resolved from the tables
+ * already extracted instead of being extracted again.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel
+@SessionFactory(
+		exportSchema = false
+)
+public class ForeignKeyReferencedTableResolutionTest extends BaseSessionFactoryFunctionalTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createNativeQuery( "create table PARENT_TABLE ( ID int not null, primary key ( ID ) )" )
+							.executeUpdate();
+					session.createNativeQuery(
+									"create table CHILD_TABLE ( ID int not null, PARENT_ID int, primary key ( ID ), " +
+											"constraint FK_CHILD_PARENT foreign key ( PARENT_ID ) references PARENT_TABLE )" )
+							.executeUpdate();
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createNativeQuery( "drop table CHILD_TABLE" ).executeUpdate();
+					session.createNativeQuery( "drop table PARENT_TABLE" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testReferencedTableIsNotExtractedAgain() throws Exception {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder().build();
+		DdlTransactionIsolator ddlTransactionIsolator = null;
+		DatabaseInformationImpl databaseInformation = null;
+		try {
+			final Database database = new MetadataSources( ssr ).buildMetadata().getDatabase();
+			final SqlStringGenerationContext sqlStringGenerationContext =
+					SqlStringGenerationContextImpl.forTests( database.getJdbcEnvironment() );
+			ddlTransactionIsolator = new DdlTransactionIsolatorTestingImpl(
+					ssr,
+					new JdbcEnvironmentInitiator.ConnectionProviderJdbcConnectionAccess(
+							ssr.getService( ConnectionProvider.class )
+					)
+			);
+			databaseInformation = new DatabaseInformationImpl(
+					ssr,
+					database.getJdbcEnvironment(),
+					sqlStringGenerationContext,
+					ddlTransactionIsolator,
+					ssr.getService( SchemaManagementTool.class )
+			);
+
+			final NameSpaceTablesInformation tables =
+					databaseInformation.getTablesInformation( database.getDefaultNamespace() );
+			final TableInformation parent = tables.getTableInformation( "PARENT_TABLE" );
+			final TableInformation child = tables.getTableInformation( "CHILD_TABLE" );
+			assertThat( parent ).isNotNull();
+			assertThat( child ).isNotNull();
+
+			int foreignKeyCount = 0;
+			for ( ForeignKeyInformation foreignKey : child.getForeignKeys() ) {
+				for ( ForeignKeyInformation.ColumnReferenceMapping mapping : foreignKey.getColumnReferenceMappings() ) {
+					assertThat( mapping.getReferencedColumnMetadata().getContainingTableInformation() )
+							.isSameAs( parent );
+				}
+				foreignKeyCount++;
+			}
+			assertThat( foreignKeyCount ).isEqualTo( 1 );
+		}
+		finally {
+			if ( databaseInformation != null ) {
+				databaseInformation.cleanup();
+			}
+			if ( ddlTransactionIsolator != null ) {
+				ddlTransactionIsolator.release();
+			}
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbcParameterBindingsTest {
+
+	@Test
+	public void testBindingsByParameterId() {
+		final JdbcParameterBindingsImpl jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		final JdbcParameterImpl first = new JdbcParameterImpl( null, 0 );
+		final JdbcParameterImpl second = new JdbcParameterImpl( null, 5 );
+		final JdbcParameterImpl unnumbered = new JdbcParameterImpl( null );
+
+		final JdbcParameterBinding firstBinding = new JdbcParameterBindingImpl( null, "first" );
+		final JdbcParameterBinding secondBinding = new JdbcParameterBindingImpl( null, "second" );
+		final JdbcParameterBinding unnumberedBinding = new JdbcParameterBindingImpl( null, "unnumbered" );
+		jdbcParameterBindings.addBinding( first, firstBinding );
+		jdbcParameterBindings.addBinding( second, secondBinding );
+		jdbcParameterBindings.addBinding( unnumbered, unnumberedBinding );
+
+		assertThat( jdbcParameterBindings.getBinding( first ) ).isSameAs( firstBinding );
+		assertThat( jdbcParameterBindings.getBinding( second ) ).isSameAs( secondBinding );
+		assertThat( jdbcParameterBindings.getBinding( unnumbered ) ).isSameAs( unnumberedBinding );
+		assertThat( jdbcParameterBindings.getBinding( new JdbcParameterImpl( null, 0 ) ) ).isNull();
+		assertThat( jdbcParameterBindings.getBindings() )
+				.containsExactlyInAnyOrder( firstBinding, secondBinding, unnumberedBinding );
+
+		jdbcParameterBindings.clear();
+		assertThat( jdbcParameterBindings.getBinding( first ) ).isNull();
+		assertThat( jdbcParameterBindings.getBindings() ).isEmpty();
+	}
+
+	@Test
+	public void testParametersSharingAnId() {
+		final JdbcParameterBindingsImpl jdbcParameterBindings = new JdbcParameterBindingsImpl( 2 );
+		final JdbcParameterImpl parameter = new JdbcParameterImpl( null, 1 );
+		final JdbcParameterImpl other = new JdbcParameterImpl( null, 1 );
+
+		final JdbcParameterBinding binding = new JdbcParameterBindingImpl( null, "parameter" );
+		final JdbcParameterBinding otherBinding = new JdbcParameterBindingImpl( null, "other" );
+		jdbcParameterBindings.addBinding( parameter, binding );
+		jdbcParameterBindings.addBinding( other, otherBinding );
+
+		assertThat( jdbcParameterBindings.getBinding( parameter ) ).isSameAs( binding );
+		assertThat( jdbcParameterBindings.getBinding( other ) ).isSameAs( otherBinding );
+
+		final JdbcParameterBinding rebinding = new JdbcParameterBindingImpl( null, "rebound" );
+		jdbcParameterBindings.addBinding( parameter, rebinding );
+		assertThat( jdbcParameterBindings.getBinding( parameter ) ).isSameAs( rebinding );
+		assertThat( jdbcParameterBindings.getBindings() ).hasSize( 2 );
+	}
+}
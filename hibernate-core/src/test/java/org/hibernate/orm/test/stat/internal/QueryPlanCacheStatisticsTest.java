@@ -262,6 +262,25 @@ public class QueryPlanCacheStatisticsTest {
 		} );
 	}
 
+	@Test
+	public void testCreateNamedQueryAfterInterpretationEviction(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		// Compile the named queries
+		sessionFactory.getQueryEngine().getNamedObjectRepository().checkNamedQueries( sessionFactory.getQueryEngine() );
+		// Drop every cached interpretation, as an eviction would
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		statistics.clear();
+
+		scope.inTransaction( entityManager -> {
+			entityManager.createNamedQuery( "find_employee_by_name", Employee.class )
+					.setParameter( "name", "Employee: 1" );
+
+			//The miss count is 0 because the named query memento kept its HqlInterpretation
+			assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 1, statistics.getQueryPlanCacheHitCount() );
+		} );
+	}
+
 	@Test
 	@TestForIssue( jiraKey = "HHH-13077" )
 	public void testCreateQueryTupleHitCount(SessionFactoryScope scope) {
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.hibernate.internal.util.collections.BoundedCopyOnWriteList;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedCopyOnWriteListTest {
+	private static final int THREADS = 8;
+
+	@Test
+	public void testAddFirstEvictsLeastRecentlyAdded() {
+		final BoundedCopyOnWriteList<String> list = new BoundedCopyOnWriteList<>( 3 );
+		assertTrue( list.snapshot().isEmpty() );
+
+		for ( String element : asList( "a", "b", "c" ) ) {
+			assertSame( element, list.addFirst( element, list.snapshot(), existing -> false ) );
+		}
+		assertEquals( asList( "c", "b", "a" ), list.snapshot() );
+
+		list.addFirst( "d", list.snapshot(), existing -> false );
+		assertEquals( asList( "d", "c", "b" ), list.snapshot() );
+		list.addFirst( "e", list.snapshot(), existing -> false );
+		assertEquals( asList( "e", "d", "c" ), list.snapshot() );
+	}
+
+	@Test
+	public void testSnapshotIsNotModified() {
+		final BoundedCopyOnWriteList<String> list = new BoundedCopyOnWriteList<>( 2 );
+		list.addFirst( "a", list.snapshot(), existing -> false );
+		final List<String> snapshot = list.snapshot();
+		list.addFirst( "b", snapshot, existing -> false );
+		assertEquals( asList( "a" ), snapshot );
+		assertThrows( UnsupportedOperationException.class, () -> snapshot.add( "c" ) );
+	}
+
+	@Test
+	public void testMatchAddedSinceSnapshotIsReturned() {
+		final BoundedCopyOnWriteList<String> list = new BoundedCopyOnWriteList<>( 4 );
+		list.addFirst( "a", list.snapshot(), existing -> false );
+		final List<String> snapshot = list.snapshot();
+		final String concurrent = new String( "b" );
+		list.addFirst( concurrent, list.snapshot(), existing -> false );
+
+		assertSame( concurrent, list.addFirst( "b", snapshot, "b"::equals ) );
+		assertEquals( asList( "b", "a" ), list.snapshot() );
+
+		// "a" was in the snapshot and so was checked by the caller already
+		assertSame( "c", list.addFirst( "c", snapshot, "a"::equals ) );
+		assertEquals( asList( "c", "b", "a" ), list.snapshot() );
+	}
+
+	@Test
+	public void testInvalidMaxSize() {
+		assertThrows( IllegalArgumentException.class, () -> new BoundedCopyOnWriteList<>( 0 ) );
+	}
+
+	@Test
+	public void testConcurrentAddsOfDistinctElements() throws Exception {
+		final BoundedCopyOnWriteList<Integer> list = new BoundedCopyOnWriteList<>( 4 );
+		final List<Integer> snapshot = list.snapshot();
+		final List<Integer> added = runConcurrently(
+				i -> list.addFirst( i, snapshot, existing -> false )
+		);
+
+		// every add succeeded, and only the most recently added elements were kept
+		assertEquals( asList( 0, 1, 2, 3, 4, 5, 6, 7 ), added );
+		final List<Integer> kept = list.snapshot();
+		assertEquals( 4, kept.size() );
+		assertEquals( 4, new HashSet<>( kept ).size() );
+	}
+
+	@Test
+	public void testConcurrentAddsOfEquivalentElements() throws Exception {
+		final BoundedCopyOnWriteList<Integer> list = new BoundedCopyOnWriteList<>( 4 );
+		list.addFirst( -1, list.snapshot(), existing -> false );
+		final List<Integer> snapshot = list.snapshot();
+		// all callers missed in the same snapshot, and build an element matching each other's
+		final List<Integer> added = runConcurrently(
+				i -> list.addFirst( i, snapshot, existing -> existing >= 0 )
+		);
+
+		final List<Integer> kept = list.snapshot();
+		assertEquals( 2, kept.size() );
+		assertEquals( -1, kept.get( 1 ) );
+		final Set<Integer> results = new HashSet<>( added );
+		assertEquals( 1, results.size() );
+		assertTrue( results.contains( kept.get( 0 ) ) );
+	}
+
+	private static List<Integer> runConcurrently(IntFunction<Integer> task) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final CyclicBarrier barrier = new CyclicBarrier( THREADS );
+			final List<Future<Integer>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				final int index = i;
+				final Callable<Integer> callable = () -> {
+					barrier.await( 10, TimeUnit.SECONDS );
+					return task.apply( index );
+				};
+				futures.add( executor.submit( callable ) );
+			}
+			final List<Integer> results = new ArrayList<>();
+			for ( Future<Integer> future : futures ) {
+				results.add( future.get( 10, TimeUnit.SECONDS ) );
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -90,6 +90,7 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndIndexEnabled;
 	private final boolean revisionSequenceNoCache;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
@@ -146,6 +147,11 @@ public class Configuration {
 				DEFAULT_REVEND_FIELD
 		);
 
+		revisionEndIndexEnabled = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX,
+				false
+		);
+
 		revisionEndTimestampEnabled = configProps.getBoolean(
 				EnversSettings.AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP,
 				false
@@ -252,6 +258,10 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public boolean isRevisionEndIndexEnabled() {
+		return revisionEndIndexEnabled;
+	}
+
 	public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
@@ -130,6 +130,17 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether schema generation should create an index on the revision and revision end columns of the audit
+	 * tables when using the validity audit strategy, allowing the revision range predicates of queries for entities at
+	 * a given revision to be resolved by index range scans.
+	 *
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.3
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_INDEX = "org.hibernate.envers.audit_strategy_validity_revend_index";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
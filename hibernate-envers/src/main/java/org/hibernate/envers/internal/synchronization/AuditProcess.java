@@ -7,9 +7,14 @@
 package org.hibernate.envers.internal.synchronization;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
@@ -32,22 +37,26 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
 
-	private final LinkedList<AuditWorkUnit> workUnits;
+	// insertion ordered, allowing to remove work units replaced by a merge in constant time
+	private final Set<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	// performed once the audit data is flushed, by the key they were registered with
+	private final Map<Object, BeforeTransactionCompletionProcess> flushedDataProcesses;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
 
-		workUnits = new LinkedList<>();
+		workUnits = new LinkedHashSet<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
+		flushedDataProcesses = new LinkedHashMap<>();
 	}
 
 	public void cacheEntityState(Object id, String entityName, Object[] snapshot) {
@@ -81,7 +90,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 			if ( entityId == null ) {
 				// Just adding the work unit - it's not associated with any persistent entity.
-				workUnits.offer( vwu );
+				workUnits.add( vwu );
 			}
 			else {
 				final String entityName = vwu.getEntityName();
@@ -96,7 +105,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 						if ( result != null ) {
 							usedIds.put( usedIdsKey, result );
-							workUnits.offer( result );
+							workUnits.add( result );
 						}
 						// else: a null result means that no work unit should be kept
 					}
@@ -104,7 +113,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 				}
 				else {
 					usedIds.put( usedIdsKey, vwu );
-					workUnits.offer( vwu );
+					workUnits.add( vwu );
 				}
 			}
 		}
@@ -121,12 +130,44 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
+		while ( (vwu = pollWorkUnit()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
 	}
 
+	private AuditWorkUnit pollWorkUnit() {
+		final Iterator<AuditWorkUnit> iterator = workUnits.iterator();
+		if ( !iterator.hasNext() ) {
+			return null;
+		}
+		final AuditWorkUnit vwu = iterator.next();
+		iterator.remove();
+		return vwu;
+	}
+
+	/**
+	 * Returns the process registered with the given key, registering the process obtained from the
+	 * given supplier if none was.  Such processes are performed before the transaction completes,
+	 * through the session the audit data was written with, once that data has been flushed.
+	 *
+	 * @param key The key identifying the process, typically the party registering it
+	 * @param processSupplier Supplies the process to register, if none is registered yet
+	 *
+	 * @return The registered process
+	 */
+	@SuppressWarnings("unchecked")
+	public <P extends BeforeTransactionCompletionProcess> P getFlushedDataProcess(Object key, Supplier<P> processSupplier) {
+		return (P) flushedDataProcesses.computeIfAbsent( key, k -> processSupplier.get() );
+	}
+
+	private void performFlushedDataProcesses(SessionImplementor session) {
+		for ( BeforeTransactionCompletionProcess process : flushedDataProcesses.values() ) {
+			process.doBeforeTransactionCompletion( session );
+		}
+		flushedDataProcesses.clear();
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -164,6 +205,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.openSession();
 				executeInSession( temporarySession );
 				temporarySession.flush();
+				performFlushedDataProcesses( (SessionImplementor) temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -176,6 +218,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+			performFlushedDataProcesses( session );
 		}
 	}
 }
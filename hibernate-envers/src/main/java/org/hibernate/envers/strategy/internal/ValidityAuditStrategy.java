@@ -8,23 +8,31 @@ package org.hibernate.envers.strategy.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.NamingHelper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.model.Attribute;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.ManyToOneAttribute;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.metadata.RevisionInfoHelper;
 import org.hibernate.envers.exception.AuditException;
@@ -45,6 +53,7 @@ import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.ComparisonRestriction;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
@@ -114,6 +123,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 					mappingContext.getConfiguration().getRevisionEndFieldName()
 			);
 
+			if ( mappingContext.getConfiguration().isRevisionEndIndexEnabled() ) {
+				addRevisionEndIndex( mappingContext, revEndMapping.getColumns().get( 0 ) );
+			}
+
 			mappingContext.getEntityMapping().addAttribute( revEndMapping );
 		}
 
@@ -151,6 +164,38 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	private static void addRevisionEndIndex(MappingContext mappingContext, Column revEndColumn) {
+		// Index the revision column along with the revision end column, so that the "e.revision <= :revision
+		// and (e.endRevision > :revision or e.endRevision is null)" restrictions of queries for entities at a
+		// given revision can be resolved by index range scans: a single column index would not contain the
+		// rows with a null revision end on databases which do not index entirely null keys, like Oracle or DB2
+		final List<Column> indexColumns = new ArrayList<>();
+		if ( mappingContext.getEntityMapping() instanceof RootPersistentEntity ) {
+			final RootPersistentEntity entity = (RootPersistentEntity) mappingContext.getEntityMapping();
+			for ( Attribute attribute : entity.getIdentifier().getAttributes() ) {
+				if ( attribute.getName().equals( mappingContext.getConfiguration().getRevisionFieldName() ) ) {
+					indexColumns.addAll( attribute.getColumns() );
+				}
+			}
+		}
+		indexColumns.add( revEndColumn );
+
+		final List<Identifier> columnNames = new ArrayList<>( indexColumns.size() );
+		for ( Column column : indexColumns ) {
+			columnNames.add( Identifier.toIdentifier( column.getName() ) );
+		}
+		// the name is hashed from the table and column names, as for the implicitly named indexes,
+		// so that it never exceeds the identifier length limits of the database
+		final String indexName = NamingHelper.INSTANCE.generateHashedConstraintName(
+				"IDX",
+				Identifier.toIdentifier( mappingContext.getEntityMapping().getAuditTableData().getAuditTableName() ),
+				columnNames
+		);
+		for ( Column column : indexColumns ) {
+			column.setIndex( indexName );
+		}
+	}
+
 	@Override
 	public void perform(
 			final Session session,
@@ -173,47 +218,15 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+			// Register the update with the audit process of the transaction, which executes it after flushing
+			// the audit data, to guarantee execution of UPDATE statement after INSERT.  The updates of all the
+			// entity changes of the transaction are collected by a single process, so that they can be executed
+			// as JDBC batches.
+			configuration.getEnversService()
+					.getAuditProcessManager()
+					.get( (EventSource) session )
+					.getFlushedDataProcess( this, EndRevisionUpdates::new )
+					.add( new EndRevisionUpdate( entityName, auditedEntityName, id, data, revision, configuration ) );
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -488,6 +501,56 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Executes the given {@link UpdateContext}s, which must all share the same SQL, within the scope
+	 * of the specified session as a single JDBC batch.
+	 *
+	 * @param session the session
+	 * @param contexts the update contexts to be executed
+	 * @return the number of rows affected by each of the operations
+	 */
+	private int[] executeBatchUpdate(SessionImplementor session, List<UpdateContext> contexts) {
+		final String sql = contexts.get( 0 ).toStatementString();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		return session.doReturningWork(
+				connection -> {
+					try {
+						for ( UpdateContext context : contexts ) {
+							int index = 1;
+							for ( QueryParameterBinding binding : context.getBindings() ) {
+								index += binding.bind( index, statement, session );
+							}
+							statement.addBatch();
+						}
+						//noinspection deprecation
+						final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
+								.getJdbcSessionContext()
+								.getObserver();
+						try {
+							observer.jdbcExecuteBatchStart();
+							return statement.executeBatch();
+						}
+						finally {
+							observer.jdbcExecuteBatchEnd();
+						}
+					}
+					catch (SQLException e) {
+						throw session.getJdbcServices().getSqlExceptionHelper().convert(
+								e,
+								"could not execute batch",
+								sql
+						);
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+						jdbcCoordinator.afterStatementExecution();
+					}
+				}
+		);
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -658,6 +721,121 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * The end-revision update of the previous audit row of a single entity change.
+	 */
+	private static class EndRevisionUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Object id;
+		private final Object data;
+		private final Object revision;
+		private final Configuration configuration;
+
+		private EndRevisionUpdate(
+				String entityName,
+				String auditedEntityName,
+				Object id,
+				Object data,
+				Object revision,
+				Configuration configuration) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.data = data;
+			this.revision = revision;
+			this.configuration = configuration;
+		}
+	}
+
+	/**
+	 * Collects the end-revision updates of the entity changes audited in a transaction, and executes
+	 * them once the audit process of the transaction has flushed the audit data.  Updates sharing the
+	 * same SQL are executed as JDBC batches when JDBC batching is enabled.
+	 */
+	private class EndRevisionUpdates implements BeforeTransactionCompletionProcess {
+		private final List<EndRevisionUpdate> updates = new ArrayList<>();
+
+		private void add(EndRevisionUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			final Map<String, List<UpdateContext>> contextsBySql = new LinkedHashMap<>();
+			final Map<UpdateContext, EndRevisionUpdate> updatesByContext = new IdentityHashMap<>();
+			for ( EndRevisionUpdate update : updates ) {
+				// Construct the update contexts
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName,
+						update.auditedEntityName,
+						session,
+						update.configuration,
+						update.id,
+						update.revision
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName,
+									update.id
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					contextsBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() ).add( context );
+					updatesByContext.put( context, update );
+				}
+			}
+			updates.clear();
+
+			final Integer batchSize = session.getConfiguredJdbcBatchSize();
+			for ( List<UpdateContext> contexts : contextsBySql.values() ) {
+				if ( batchSize == null || batchSize <= 1 ) {
+					for ( UpdateContext context : contexts ) {
+						checkRowCount( executeUpdate( session, context ), updatesByContext.get( context ) );
+					}
+				}
+				else {
+					for ( int start = 0; start < contexts.size(); start += batchSize ) {
+						final List<UpdateContext> batch = contexts.subList(
+								start,
+								Math.min( start + batchSize, contexts.size() )
+						);
+						final int[] rowCounts = executeBatchUpdate( session, batch );
+						for ( int i = 0; i < rowCounts.length && i < batch.size(); i++ ) {
+							// some drivers do not report the row count of the statements of a batch
+							if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+								checkRowCount( rowCounts[i], updatesByContext.get( batch.get( i ) ) );
+							}
+						}
+					}
+				}
+			}
+		}
+
+		private void checkRowCount(int rows, EndRevisionUpdate update) {
+			if ( rows != 1 ) {
+				final RevisionType revisionType = getRevisionType( update.configuration, update.data );
+				if ( !update.configuration.isAllowIdentifierReuse() || revisionType != RevisionType.ADD ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+									update.auditedEntityName,
+									update.id,
+									rows
+							)
+					);
+				}
+			}
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
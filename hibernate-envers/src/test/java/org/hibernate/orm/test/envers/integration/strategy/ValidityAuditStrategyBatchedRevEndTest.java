@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the end revisions of the previous audit rows are set when the updates
+ * of the entity changes of a transaction are executed as JDBC batches.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 7;
+
+	private static final SQLStatementInspector STATEMENT_INSPECTOR = new SQLStatementInspector();
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, STATEMENT_INSPECTOR );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr().replace( 'a', 'b' ) );
+		}
+		STATEMENT_INSPECTOR.clear();
+		em.getTransaction().commit();
+
+		// the 7 end-revision updates are prepared once per batch of 3
+		assertEquals( 3, countEndRevisionUpdates() );
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr().replace( 'b', 'c' ) );
+		}
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final Integer id = ids.get( i );
+			// a single audit row is valid at each revision only if the end revisions were set
+			assertEquals( "a" + i, getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+			assertEquals( "b" + i, getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+			assertEquals( "c" + i, getAuditReader().find( StrTestEntity.class, id, 3 ).getStr() );
+		}
+	}
+
+	private static long countEndRevisionUpdates() {
+		return STATEMENT_INSPECTOR.getSqlQueries()
+				.stream()
+				.map( sql -> sql.toLowerCase( Locale.ROOT ) )
+				.filter( sql -> sql.startsWith( "update" ) && sql.contains( "strtestentity_aud" ) )
+				.count();
+	}
+}
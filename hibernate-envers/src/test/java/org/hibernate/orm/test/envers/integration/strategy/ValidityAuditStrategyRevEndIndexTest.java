@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the index created on the revision end column of the audit tables.
+ */
+public class ValidityAuditStrategyRevEndIndexTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, entity.getId() ).setStr( "y" );
+		em.getTransaction().commit();
+
+		id = entity.getId();
+	}
+
+	@Test
+	public void testRevisionEndIndexExists() {
+		for ( Table table : metadata().collectTableMappings() ) {
+			if ( "STR_TEST_AUD".equals( table.getName() ) ) {
+				assertEquals( 1, table.getIndexes().size() );
+				final Index index = table.getIndexes().values().iterator().next();
+				assertEquals( 2, index.getColumns().size() );
+				assertEquals( "REV", index.getColumns().get( 0 ).getName() );
+				assertEquals( "REVEND", index.getColumns().get( 1 ).getName() );
+				// the name is hashed from the table and column names
+				assertTrue( index.getName().startsWith( "IDX" ) );
+				assertTrue( index.getName().length() <= 30 );
+				return;
+			}
+		}
+		fail( "Audit table STR_TEST_AUD not found" );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+	}
+}
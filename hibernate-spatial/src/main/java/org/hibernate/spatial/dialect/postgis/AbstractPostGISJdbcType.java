@@ -63,26 +63,30 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 		if ( object == null ) {
 			return null;
 		}
-		ByteBuffer buffer;
 		if ( object instanceof PGobject ) {
-			String pgValue = ( (PGobject) object ).getValue();
-			if (pgValue == null) {
-				return null;
-			}
-			if ( pgValue.startsWith( "00" ) || pgValue.startsWith( "01" ) ) {
-				//we have a WKB because this pgValue starts with the bit-order byte
-				buffer = ByteBuffer.from( pgValue );
-				final WkbDecoder decoder = Wkb.newDecoder( wkbDialect );
-				return decoder.decode( buffer );
-			}
-			else {
-				return parseWkt( pgValue );
-			}
-
+			return toGeometry( ( (PGobject) object ).getValue() );
+		}
+		if ( object instanceof String ) {
+			return toGeometry( (String) object );
 		}
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	private Geometry<?> toGeometry(String pgValue) {
+		if ( pgValue == null ) {
+			return null;
+		}
+		if ( pgValue.startsWith( "00" ) || pgValue.startsWith( "01" ) ) {
+			//we have a WKB because this pgValue starts with the bit-order byte
+			final ByteBuffer buffer = ByteBuffer.from( pgValue );
+			final WkbDecoder decoder = Wkb.newDecoder( wkbDialect );
+			return decoder.decode( buffer );
+		}
+		else {
+			return parseWkt( pgValue );
+		}
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -128,21 +132,25 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
 		return new BasicExtractor<X>( javaType, this ) {
 
+			// The values are read as strings, which for geometries and geographies is the hex
+			// encoded (E)WKB sent by the server.  Reading them as objects instead lets the driver
+			// map them to the types registered by PostGIS JDBC extensions, which parse the WKB
+			// only to be rendered as WKT that has to be parsed again.
 
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return getJavaType().wrap( toGeometry( rs.getObject( paramIndex ) ), options );
+				return getJavaType().wrap( toGeometry( rs.getString( paramIndex ) ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-				return getJavaType().wrap( toGeometry( statement.getObject( index ) ), options );
+				return getJavaType().wrap( toGeometry( statement.getString( index ) ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
 					throws SQLException {
-				return getJavaType().wrap( toGeometry( statement.getObject( name ) ), options );
+				return getJavaType().wrap( toGeometry( statement.getString( name ) ), options );
 			}
 		};
 	}
@@ -71,6 +71,10 @@ public class PostgisUnmarshalTest {
 		pgo.setValue( pgValue );
 		Geometry<?> received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgo );
 		assertEquals( String.format( "Failure on %s", pgValue ), expected, received );
+
+		// values read as strings
+		received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( (Object) pgValue );
+		assertEquals( String.format( "Failure on string %s", pgValue ), expected, received );
 	}
 
 
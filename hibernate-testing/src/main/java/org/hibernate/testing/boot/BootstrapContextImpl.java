@@ -123,6 +123,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return delegate.getScanner();
 	}
 
+	@Override
+	public String getScanSnapshotResourceName() {
+		return delegate.getScanSnapshotResourceName();
+	}
+
 	@Override
 	public ReflectionManager getReflectionManager() {
 		return delegate.getReflectionManager();
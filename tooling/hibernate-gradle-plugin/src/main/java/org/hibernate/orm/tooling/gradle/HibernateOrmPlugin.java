@@ -7,6 +7,7 @@
 package org.hibernate.orm.tooling.gradle;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Set;
 
 import org.gradle.api.Action;
@@ -24,10 +25,14 @@ import org.gradle.api.tasks.compile.JavaCompile;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
 import org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationTask;
+import org.hibernate.orm.tooling.gradle.proxy.ProxyPregenerationTask;
+import org.hibernate.orm.tooling.gradle.scan.ScanSnapshotTask;
 
 import static org.hibernate.orm.tooling.gradle.HibernateOrmSpec.HIBERNATE;
 import static org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationTask.COMPILE_META_TASK_NAME;
 import static org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationTask.GEN_TASK_NAME;
+import static org.hibernate.orm.tooling.gradle.proxy.ProxyPregenerationTask.PROXIES_TASK_NAME;
+import static org.hibernate.orm.tooling.gradle.scan.ScanSnapshotTask.SNAPSHOT_TASK_NAME;
 
 /**
  * Hibernate ORM Gradle plugin
@@ -43,6 +48,8 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 
 		prepareEnhancement( ormDsl, project );
 		prepareModelGen( ormDsl, project );
+		prepareProxyPregeneration( ormDsl, project );
+		prepareScanSnapshot( ormDsl, project );
 		prepareHbmTransformation( ormDsl, project );
 
 
@@ -152,6 +159,67 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 		} );
 	}
 
+	private void prepareProxyPregeneration(HibernateOrmSpec ormDsl, Project project) {
+		final TaskProvider<ProxyPregenerationTask> proxiesTaskRef = project.getTasks().register( PROXIES_TASK_NAME, ProxyPregenerationTask.class, (proxiesTask) -> {
+			proxiesTask.onlyIf( (t) -> ormDsl.isProxyPregenerationEnabled() );
+
+			if ( !ormDsl.isProxyPregenerationEnabled() ) {
+				return;
+			}
+
+			proxiesTask.injectSourceSet( ormDsl.getSourceSet() );
+
+			proxiesTask.getOutputDirectory().convention( ormDsl.getProxyPregeneration().getOutputDirectory() );
+		} );
+
+		project.afterEvaluate( (p) -> {
+			if ( !ormDsl.isProxyPregenerationEnabled() ) {
+				return;
+			}
+
+			// package the proxy classes along with the entity classes, in the same packages
+			ormDsl.getSourceSet().get().getOutput().dir(
+					Collections.singletonMap( "builtBy", proxiesTaskRef ),
+					ormDsl.getProxyPregeneration().getOutputDirectory()
+			);
+		} );
+	}
+
+	private void prepareScanSnapshot(HibernateOrmSpec ormDsl, Project project) {
+		final TaskProvider<ScanSnapshotTask> snapshotTaskRef = project.getTasks().register( SNAPSHOT_TASK_NAME, ScanSnapshotTask.class, (snapshotTask) -> {
+			snapshotTask.onlyIf( (t) -> ormDsl.isScanSnapshotEnabled() );
+
+			if ( !ormDsl.isScanSnapshotEnabled() ) {
+				return;
+			}
+
+			snapshotTask.injectSourceSet( ormDsl.getSourceSet() );
+			if ( ormDsl.isProxyPregenerationEnabled() ) {
+				// the pre-generated proxy classes are packaged along with the classes of the source-set
+				snapshotTask.getGeneratedClasses().from( project.getTasks().named( PROXIES_TASK_NAME ) );
+			}
+
+			snapshotTask.getOutputDirectory().convention( ormDsl.getScanSnapshot().getOutputDirectory() );
+			snapshotTask.getResourceName().convention( ormDsl.getScanSnapshot().getResourceName() );
+			snapshotTask.getDetection().convention( ormDsl.getScanSnapshot().getDetection() );
+			snapshotTask.getExcludeUnlistedClasses().convention( ormDsl.getScanSnapshot().getExcludeUnlistedClasses() );
+			snapshotTask.getMappingFiles().convention( ormDsl.getScanSnapshot().getMappingFiles() );
+			snapshotTask.getJarFiles().from( ormDsl.getScanSnapshot().getJarFiles() );
+		} );
+
+		project.afterEvaluate( (p) -> {
+			if ( !ormDsl.isScanSnapshotEnabled() ) {
+				return;
+			}
+
+			// package the snapshot along with the classes it describes
+			ormDsl.getSourceSet().get().getOutput().dir(
+					Collections.singletonMap( "builtBy", snapshotTaskRef ),
+					ormDsl.getScanSnapshot().getOutputDirectory()
+			);
+		} );
+	}
+
 	private void prepareHbmTransformation(HibernateOrmSpec ormDsl, Project project) {
 
 	}
@@ -21,6 +21,8 @@ import org.gradle.api.tasks.SourceSet;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementSpec;
 import org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationSpec;
+import org.hibernate.orm.tooling.gradle.proxy.ProxyPregenerationSpec;
+import org.hibernate.orm.tooling.gradle.scan.ScanSnapshotSpec;
 
 /**
  * Main DSL extension for Hibernate ORM.  Available as `project.hibernate`
@@ -34,6 +36,8 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 
 	private EnhancementSpec enhancementDsl;
 	private JpaMetamodelGenerationSpec jpaMetamodelDsl;
+	private ScanSnapshotSpec scanSnapshotDsl;
+	private ProxyPregenerationSpec proxyPregenerationDsl;
 
 	private final Property<Boolean> useSameVersion;
 	private final Property<SourceSet> sourceSet;
@@ -140,6 +144,44 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	}
 
 
+	/**
+	 * DSL extension for configuring the snapshot of the scanned archives.  Also acts as the trigger for
+	 * opting into writing the snapshot
+	 */
+	public ScanSnapshotSpec getScanSnapshot() {
+		if ( scanSnapshotDsl == null ) {
+			scanSnapshotDsl = getExtensions().create( ScanSnapshotSpec.DSL_NAME, ScanSnapshotSpec.class, this, project );
+		}
+		return scanSnapshotDsl;
+	}
+
+	/**
+	 * @see #getScanSnapshot()
+	 */
+	public void scanSnapshot(Action<ScanSnapshotSpec> action) {
+		action.execute( getScanSnapshot() );
+	}
+
+
+	/**
+	 * DSL extension for configuring the pre-generation of the proxy classes of the entities.  Also acts
+	 * as the trigger for opting into the pre-generation
+	 */
+	public ProxyPregenerationSpec getProxyPregeneration() {
+		if ( proxyPregenerationDsl == null ) {
+			proxyPregenerationDsl = getExtensions().create( ProxyPregenerationSpec.DSL_NAME, ProxyPregenerationSpec.class, this, project );
+		}
+		return proxyPregenerationDsl;
+	}
+
+	/**
+	 * @see #getProxyPregeneration()
+	 */
+	public void proxyPregeneration(Action<ProxyPregenerationSpec> action) {
+		action.execute( getProxyPregeneration() );
+	}
+
+
 	public boolean isEnhancementEnabled() {
 		return enhancementDsl != null;
 	}
@@ -148,6 +190,14 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		return jpaMetamodelDsl != null;
 	}
 
+	public boolean isScanSnapshotEnabled() {
+		return scanSnapshotDsl != null;
+	}
+
+	public boolean isProxyPregenerationEnabled() {
+		return proxyPregenerationDsl != null;
+	}
+
 
 	/**
 	 * @see #getUseSameVersion()
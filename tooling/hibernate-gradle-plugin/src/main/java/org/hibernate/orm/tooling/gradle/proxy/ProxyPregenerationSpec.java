@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.proxy;
+
+import javax.inject.Inject;
+
+import org.gradle.api.Project;
+import org.gradle.api.file.DirectoryProperty;
+
+import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+
+/**
+ * DSL extension for configuring the pre-generation of the proxy classes of the entities
+ *
+ * @see org.hibernate.bytecode.internal.bytebuddy.ProxyClassPregenerator
+ */
+public class ProxyPregenerationSpec {
+	public static final String PROXY_PREGENERATION = "proxyPregeneration";
+	public static final String DSL_NAME = PROXY_PREGENERATION;
+
+	private final DirectoryProperty outputDirectory;
+
+	@Inject
+	public ProxyPregenerationSpec(HibernateOrmSpec ormDsl, Project project) {
+		outputDirectory = project.getObjects().directoryProperty();
+		outputDirectory.convention(
+				project.getLayout().getBuildDirectory().dir( "generated/classes/" + PROXY_PREGENERATION )
+		);
+	}
+
+	/**
+	 * The directory where the proxy classes are written, which is added to the
+	 * outputs of the source-set.  Defaults to `${buildDir}/generated/classes/proxyPregeneration`
+	 */
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.bytecode.internal.bytebuddy.ProxyClassPregenerator;
+import org.hibernate.orm.tooling.gradle.Helper;
+
+import static org.hibernate.orm.tooling.gradle.HibernateOrmSpec.HIBERNATE;
+
+/**
+ * Writes the proxy classes of the entities of the source-set, allowing Hibernate
+ * to skip generating them when the SessionFactory is built
+ *
+ * @see org.hibernate.bytecode.internal.bytebuddy.ProxyClassPregenerator
+ */
+public class ProxyPregenerationTask extends DefaultTask {
+	public static final String PROXIES_TASK_NAME = "generateProxies";
+
+	private static final String ENTITY_ANNOTATION_NAME = "jakarta.persistence.Entity";
+
+	private final Property<SourceSet> sourceSetProperty;
+
+	private final DirectoryProperty outputDirectory;
+
+	@Inject
+	public ProxyPregenerationTask() {
+		setGroup( HIBERNATE );
+		setDescription( "Writes the proxy classes of the entities" );
+
+		sourceSetProperty = getProject().getObjects().property( SourceSet.class );
+
+		outputDirectory = getProject().getObjects().directoryProperty();
+	}
+
+	public void injectSourceSet(Provider<SourceSet> sourceSetAccess) {
+		sourceSetProperty.set( sourceSetAccess );
+	}
+
+	@InputFiles
+	@SkipWhenEmpty
+	public FileCollection getSources() {
+		// the compile tasks perform the enhancement, if enabled, and so produce the classes as packaged
+		return sourceSetProperty.get().getOutput().getClassesDirs();
+	}
+
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@TaskAction
+	public void generateProxies() {
+		final ClassLoader classLoader = Helper.toClassLoader( sourceSetProperty.get(), getProject() );
+
+		final List<Class<?>> entityClasses = new ArrayList<>();
+		for ( File classesDir : getSources().getFiles() ) {
+			if ( !classesDir.isDirectory() ) {
+				continue;
+			}
+			getProject().fileTree( classesDir ).matching( (filter) -> filter.include( "**/*.class" ) ).forEach(
+					(classFile) -> {
+						final Class<?> loadedClass = loadClass( Helper.determineClassName( classesDir, classFile ), classLoader );
+						if ( loadedClass != null && isProxiedEntity( loadedClass ) ) {
+							entityClasses.add( loadedClass );
+						}
+					}
+			);
+		}
+
+		final File outputDir = outputDirectory.get().getAsFile();
+		try {
+			for ( String proxyClassName : new ProxyClassPregenerator().write( entityClasses, outputDir ) ) {
+				getLogger().info( "Generated proxy class `{}`", proxyClassName );
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write proxy classes : " + outputDir.getAbsolutePath(), e );
+		}
+	}
+
+	private Class<?> loadClass(String className, ClassLoader classLoader) {
+		if ( className.endsWith( "module-info" ) || className.endsWith( "package-info" ) ) {
+			return null;
+		}
+		try {
+			return Class.forName( className, false, classLoader );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			getLogger().debug( "Unable to load class `{}`", className, e );
+			return null;
+		}
+	}
+
+	private static boolean isProxiedEntity(Class<?> loadedClass) {
+		// final classes cannot be proxied, and the annotations are compared by name
+		// since they are loaded from the project classpath
+		if ( Modifier.isFinal( loadedClass.getModifiers() ) ) {
+			return false;
+		}
+		for ( Annotation annotation : loadedClass.getAnnotations() ) {
+			if ( ENTITY_ANNOTATION_NAME.equals( annotation.annotationType().getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.scan;
+
+import javax.inject.Inject;
+
+import org.gradle.api.Project;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+
+/**
+ * DSL extension for configuring the snapshot of the scanned archives
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ */
+public class ScanSnapshotSpec {
+	public static final String SCAN_SNAPSHOT = "scanSnapshot";
+	public static final String DSL_NAME = SCAN_SNAPSHOT;
+
+	public static final String DEFAULT_RESOURCE_NAME = "META-INF/hibernate-scan.snapshot";
+
+	private final DirectoryProperty outputDirectory;
+	private final Property<String> resourceName;
+	private final Property<String> detection;
+	private final Property<Boolean> excludeUnlistedClasses;
+	private final ListProperty<String> mappingFiles;
+	private final ConfigurableFileCollection jarFiles;
+
+	@Inject
+	public ScanSnapshotSpec(HibernateOrmSpec ormDsl, Project project) {
+		outputDirectory = project.getObjects().directoryProperty();
+		outputDirectory.convention(
+				project.getLayout().getBuildDirectory().dir( "generated/resources/" + SCAN_SNAPSHOT )
+		);
+
+		resourceName = project.getObjects().property( String.class );
+		resourceName.convention( DEFAULT_RESOURCE_NAME );
+
+		detection = project.getObjects().property( String.class );
+
+		excludeUnlistedClasses = project.getObjects().property( Boolean.class );
+		excludeUnlistedClasses.convention( false );
+
+		mappingFiles = project.getObjects().listProperty( String.class );
+		jarFiles = project.getObjects().fileCollection();
+	}
+
+	/**
+	 * The directory where the snapshot resource is written, which is added to the
+	 * outputs of the source-set.  Defaults to `${buildDir}/generated/resources/scanSnapshot`
+	 */
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	/**
+	 * The name of the snapshot resource, to be specified as
+	 * {@value org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT} at runtime.
+	 * Defaults to {@value #DEFAULT_RESOURCE_NAME}
+	 */
+	public Property<String> getResourceName() {
+		return resourceName;
+	}
+
+	/**
+	 * The {@value org.hibernate.cfg.AvailableSettings#SCANNER_DISCOVERY} setting in
+	 * effect at runtime, if any
+	 */
+	public Property<String> getDetection() {
+		return detection;
+	}
+
+	/**
+	 * Whether the persistence unit excludes unlisted classes at runtime.  Defaults to false
+	 */
+	public Property<Boolean> getExcludeUnlistedClasses() {
+		return excludeUnlistedClasses;
+	}
+
+	/**
+	 * The mapping files listed by the persistence unit at runtime, if any
+	 */
+	public ListProperty<String> getMappingFiles() {
+		return mappingFiles;
+	}
+
+	/**
+	 * The archives listed as {@code <jar-file>} by the persistence unit at runtime, in
+	 * the order in which they are listed, if any
+	 */
+	public ConfigurableFileCollection getJarFiles() {
+		return jarFiles;
+	}
+}
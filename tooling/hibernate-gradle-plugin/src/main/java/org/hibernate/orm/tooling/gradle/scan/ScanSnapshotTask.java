@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshot;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+
+import static org.hibernate.orm.tooling.gradle.HibernateOrmSpec.HIBERNATE;
+
+/**
+ * Writes the snapshot of the classes and resources of the source-set, allowing
+ * Hibernate to skip indexing the class files at startup
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ */
+public class ScanSnapshotTask extends DefaultTask {
+	public static final String SNAPSHOT_TASK_NAME = "generateScanSnapshot";
+
+	private final Property<SourceSet> sourceSetProperty;
+
+	private final ConfigurableFileCollection generatedClasses;
+
+	private final DirectoryProperty outputDirectory;
+	private final Property<String> resourceName;
+	private final Property<String> detection;
+	private final Property<Boolean> excludeUnlistedClasses;
+	private final ListProperty<String> mappingFiles;
+	private final ConfigurableFileCollection jarFiles;
+
+	@Inject
+	public ScanSnapshotTask() {
+		setGroup( HIBERNATE );
+		setDescription( "Writes the snapshot of the archives scanned by Hibernate" );
+
+		sourceSetProperty = getProject().getObjects().property( SourceSet.class );
+		generatedClasses = getProject().getObjects().fileCollection();
+
+		outputDirectory = getProject().getObjects().directoryProperty();
+		resourceName = getProject().getObjects().property( String.class );
+		detection = getProject().getObjects().property( String.class );
+		excludeUnlistedClasses = getProject().getObjects().property( Boolean.class );
+		mappingFiles = getProject().getObjects().listProperty( String.class );
+		jarFiles = getProject().getObjects().fileCollection();
+	}
+
+	public void injectSourceSet(Provider<SourceSet> sourceSetAccess) {
+		sourceSetProperty.set( sourceSetAccess );
+	}
+
+	@InputFiles
+	@SkipWhenEmpty
+	public FileCollection getSources() {
+		final SourceSet sourceSet = sourceSetProperty.get();
+		// the compile tasks perform the enhancement, if enabled, and so produce the classes as packaged
+		return getProject().files(
+				sourceSet.getOutput().getClassesDirs(),
+				generatedClasses,
+				getProject().getTasks().named( sourceSet.getProcessResourcesTaskName() )
+		);
+	}
+
+	/**
+	 * Classes generated by other tasks, and packaged along with the classes of the source-set
+	 */
+	@Internal
+	public ConfigurableFileCollection getGeneratedClasses() {
+		return generatedClasses;
+	}
+
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@Input
+	public Property<String> getResourceName() {
+		return resourceName;
+	}
+
+	@Input
+	@Optional
+	public Property<String> getDetection() {
+		return detection;
+	}
+
+	@Input
+	public Property<Boolean> getExcludeUnlistedClasses() {
+		return excludeUnlistedClasses;
+	}
+
+	@Input
+	public ListProperty<String> getMappingFiles() {
+		return mappingFiles;
+	}
+
+	/**
+	 * The archives listed as {@code <jar-file>} by the persistence unit, in the order
+	 * in which they are listed
+	 */
+	@InputFiles
+	@PathSensitive( PathSensitivity.NONE )
+	public ConfigurableFileCollection getJarFiles() {
+		return jarFiles;
+	}
+
+	@TaskAction
+	public void generateScanSnapshot() {
+		final List<File> directories = new ArrayList<>();
+		for ( File directory : getSources().getFiles() ) {
+			if ( directory.isDirectory() ) {
+				directories.add( directory );
+			}
+		}
+
+		// the directories of the source-set all end up in the same root archive once packaged
+		final ArchiveDescriptor rootArchive = (context) -> {
+			for ( File directory : directories ) {
+				try {
+					StandardArchiveDescriptorFactory.INSTANCE
+							.buildArchiveDescriptor( directory.toURI().toURL() )
+							.visitArchive( context );
+				}
+				catch (MalformedURLException e) {
+					throw new GradleException( "Unable to resolve directory to URL : " + directory.getAbsolutePath(), e );
+				}
+			}
+		};
+
+		// same order as listed by the persistence unit
+		final List<ArchiveDescriptor> nonRootArchives = new ArrayList<>();
+		for ( File jarFile : jarFiles ) {
+			try {
+				nonRootArchives.add(
+						StandardArchiveDescriptorFactory.INSTANCE.buildArchiveDescriptor( jarFile.toURI().toURL() )
+				);
+			}
+			catch (MalformedURLException e) {
+				throw new GradleException( "Unable to resolve jar file to URL : " + jarFile.getAbsolutePath(), e );
+			}
+		}
+
+		final File snapshotFile = new File( outputDirectory.get().getAsFile(), resourceName.get() );
+		try {
+			Files.createDirectories( snapshotFile.getParentFile().toPath() );
+			try ( OutputStream outputStream = Files.newOutputStream( snapshotFile.toPath() ) ) {
+				ScanResultSnapshot.write(
+						rootArchive,
+						nonRootArchives,
+						new StandardScanOptions( detection.getOrNull(), excludeUnlistedClasses.get() ),
+						mappingFiles.get(),
+						resourceName.get(),
+						outputStream
+				);
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write scan snapshot : " + snapshotFile.getAbsolutePath(), e );
+		}
+
+		getLogger().info( "Wrote scan snapshot `{}`", snapshotFile.getAbsolutePath() );
+	}
+}
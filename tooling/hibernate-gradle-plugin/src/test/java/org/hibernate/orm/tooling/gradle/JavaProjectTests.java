@@ -6,11 +6,19 @@
  */
 package org.hibernate.orm.tooling.gradle;
 
+import java.io.File;
 import java.nio.file.Path;
 
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
 
 /**
  * Basic functional tests
@@ -61,4 +69,46 @@ class JavaProjectTests extends TestsBase {
 	public void testJpaMetamodelGenUpToDate(@TempDir Path projectDir) {
 		super.testJpaMetamodelGenUpToDate( projectDir );
 	}
+
+	@Test
+	public void testScanSnapshot(@TempDir Path projectDir) {
+		Copier.copyProject( getProjectName() + "/build.gradle", projectDir );
+
+		final GradleRunner gradleRunner = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "clean", "classes", "--stacktrace", "--no-build-cache" )
+				.forwardOutput();
+
+		final BuildResult result = gradleRunner.build();
+		final BuildTask task = result.task( ":generateScanSnapshot" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( TaskOutcome.SUCCESS );
+		assertThat( new File(
+				projectDir.toFile(),
+				"build/generated/resources/scanSnapshot/META-INF/hibernate-scan.snapshot"
+		) ).exists();
+	}
+
+	@Test
+	public void testProxyPregeneration(@TempDir Path projectDir) {
+		Copier.copyProject( getProjectName() + "/build.gradle", projectDir );
+
+		final GradleRunner gradleRunner = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "clean", "classes", "--stacktrace", "--no-build-cache" )
+				.forwardOutput();
+
+		final BuildResult result = gradleRunner.build();
+		final BuildTask task = result.task( ":generateProxies" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( TaskOutcome.SUCCESS );
+		assertThat( new File(
+				projectDir.toFile(),
+				"build/generated/classes/proxyPregeneration/TheEntity$HibernateProxy.class"
+		) ).exists();
+	}
 }